@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookJournalEnabled = false;
+    private boolean addressBookCompactJsonEnabled = true;
+    private boolean addressBookReadOnly = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public boolean isAddressBookCompactJsonEnabled() {
+        return addressBookCompactJsonEnabled;
+    }
+
+    public void setAddressBookCompactJsonEnabled(boolean addressBookCompactJsonEnabled) {
+        this.addressBookCompactJsonEnabled = addressBookCompactJsonEnabled;
+    }
+
+    public boolean isAddressBookReadOnly() {
+        return addressBookReadOnly;
+    }
+
+    public void setAddressBookReadOnly(boolean addressBookReadOnly) {
+        this.addressBookReadOnly = addressBookReadOnly;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +74,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && addressBookCompactJsonEnabled == otherConfig.addressBookCompactJsonEnabled
+                && addressBookReadOnly == otherConfig.addressBookReadOnly;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournalEnabled,
+                addressBookCompactJsonEnabled, addressBookReadOnly);
     }
 
     @Override
@@ -60,6 +91,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("addressBookCompactJsonEnabled", addressBookCompactJsonEnabled)
+                .add("addressBookReadOnly", addressBookReadOnly)
                 .toString();
     }
 
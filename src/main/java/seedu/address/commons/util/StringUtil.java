@@ -32,7 +32,7 @@ public class StringUtil {
 
         String preppedWord = word.trim().toLowerCase();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1,
+        checkArgument(isSingleWord(preppedWord),
                 "Word parameter should be a single word");
 
         String preppedSentence = sentence.toLowerCase().trim();
@@ -43,15 +43,16 @@ public class StringUtil {
     }
 
     /**
-     * Returns true if {@code tagList} contains the {@code wordToFind}.
-     *   Ignores case and can match partial tag substrings.
+     * Returns true if {@code tagList} has a tag whose name starts with {@code wordToFind}.
+     *   Ignores case, and can match prefixes of tag names.
      *   <br>examples:<pre>
      *       containsTagIgnoreCase( [friend, colleague, coursemate], friend) == true
-     *       containsTagIgnoreCase( [friend, colleague, coursemate], FRIEND coll) == true
+     *       containsTagIgnoreCase( [friend, colleague, coursemate], COLL) == true
+     *       containsTagIgnoreCase( [friend, colleague, coursemate], league) == false //not a prefix
      *       </pre>
      * @param tagList The list of tags associated with a person.
      * @param wordToFind cannot be null, cannot be empty, must be a single word.
-     * @return Whether the tagList contains the tag of wordToFind.
+     * @return Whether the tagList has a tag starting with wordToFind.
      */
     public static boolean containsTagIgnoreCase(Set<Tag> tagList, String wordToFind) {
         requireNonNull(wordToFind);
@@ -59,14 +60,39 @@ public class StringUtil {
 
         String preppedWord = wordToFind.trim().toLowerCase();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1,
+        checkArgument(isSingleWord(preppedWord),
                 "Word parameter should be a single word");
 
-        String preppedSentence = tagList.toString().toLowerCase().trim();
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        return tagList.stream()
+                .anyMatch(tag -> tag.tagName.regionMatches(true, 0, preppedWord, 0, preppedWord.length()));
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(wordInSentence -> wordInSentence.toLowerCase().contains(preppedWord));
+    /**
+     * Returns true if the trimmed, non-empty {@code word} has no whitespace, that is, splitting it at whitespace
+     * gives a single word.
+     */
+    private static boolean isSingleWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (isWhitespace(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the whitespace characters matched by {@code \\s} in a regex:
+     * space, tab, line feed, vertical tab, form feed or carriage return.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \\p{Alnum}} in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     /**
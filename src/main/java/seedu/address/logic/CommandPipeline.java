@@ -0,0 +1,202 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands and live searches through {@code Logic} on a worker thread, so that parsing, searching and changing
+ * the model never block the thread that shows the results.
+ * <p>
+ * The filtered list of the model is only changed on the worker. The list that is shown, {@link #getShownPersonList()},
+ * is a copy of it that is only changed on the result executor: the ranges of the filtered list that each command
+ * changes are collected on the worker, and only those ranges are replaced in the shown list. If the address book is
+ * open read-only, the shown list refers to persons by their position in it, so persons that it creates on demand are
+ * only created when they are shown. The results of commands are delivered on the result executor too, after the list
+ * has been updated. Commands run one at a time, in the order
+ * they are submitted.
+ * <p>
+ * {@link #shutdown()} must be called before the app saves for the last time, so that commands that were still
+ * running or waiting get to change the model first.
+ */
+public class CommandPipeline {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Logic logic;
+    private final Executor resultExecutor;
+    private final ScheduledThreadPoolExecutor worker;
+
+    private final ShownPersonList<?> shownPersons;
+
+    private final AtomicInteger unfinishedCommandCount = new AtomicInteger();
+    private volatile Consumer<Boolean> busyHandler = unused -> {};
+
+    /**
+     * Creates a {@code CommandPipeline} that runs commands through {@code logic} and delivers their results on
+     * {@code resultExecutor}, such as {@code Platform::runLater}.
+     */
+    public CommandPipeline(Logic logic, Executor resultExecutor) {
+        requireAllNonNull(logic, resultExecutor);
+        this.logic = logic;
+        this.resultExecutor = resultExecutor;
+        shownPersons = createShownPersonList(logic);
+        worker = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // live searches that have yet to start are not worth waiting for on shutdown
+        worker.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Returns an unmodifiable view of the filtered list of persons as of the last finished command, which only
+     * changes on the result executor.
+     */
+    public ObservableList<Person> getShownPersonList() {
+        return shownPersons;
+    }
+
+    /**
+     * Sets the handler that is told whether any submitted command has yet to finish. It is told {@code true} on the
+     * thread that submits the first of a run of commands, and {@code false} on the result executor once they have
+     * all finished.
+     */
+    public void setBusyHandler(Consumer<Boolean> busyHandler) {
+        requireNonNull(busyHandler);
+        this.busyHandler = busyHandler;
+    }
+
+    /**
+     * Runs {@code commandText} on the worker after any commands submitted before it.
+     *
+     * @return a future that is completed on the result executor with the result of the command, or with the
+     *     {@code CommandException} or {@code ParseException} it failed with, once the shown list has been updated.
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        if (unfinishedCommandCount.getAndIncrement() == 0) {
+            busyHandler.accept(true);
+        }
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            CommandResult commandResult;
+            try {
+                commandResult = logic.execute(commandText);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                showChanges(() -> {
+                    finishCommand();
+                    result.completeExceptionally(e);
+                });
+                return;
+            }
+            showChanges(() -> {
+                finishCommand();
+                result.complete(commandResult);
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Filters the person list by the live search for {@code commandText} on the worker after {@code delayMillis}
+     * milliseconds, or shows all persons again if it is not a search command that can be previewed.
+     *
+     * @return a future that can be cancelled until the live search starts.
+     * @see Logic#computeLiveFilter(String)
+     */
+    public Future<?> scheduleLiveSearch(String commandText, long delayMillis) {
+        requireNonNull(commandText);
+        return worker.schedule(() -> {
+            try {
+                Optional<Predicate<Person>> liveFilter = logic.computeLiveFilter(commandText);
+                if (liveFilter.isPresent()) {
+                    logic.showLiveFilter(liveFilter.get());
+                } else {
+                    logic.clearLiveFilter();
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Live search failed for " + commandText + ": " + e);
+            }
+            showChanges(() -> {});
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops accepting commands and waits for the commands that were submitted to finish running on the worker.
+     * Live searches that have yet to start are dropped. The results of the commands may still be delivered on the
+     * result executor afterwards.
+     * <p>
+     * If the commands do not finish within a few seconds, such as when one is waiting for the user on the thread that
+     * called this method, the worker is interrupted instead.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands did not finish before shutdown, interrupting them");
+                worker.shutdownNow();
+                worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finishCommand() {
+        if (unfinishedCommandCount.decrementAndGet() == 0) {
+            busyHandler.accept(false);
+        }
+    }
+
+    /**
+     * Returns a copy of the filtered list of {@code logic} that follows its changes. Rows refer to persons by their
+     * position in the address book if it is open read-only, and the filtered list tells where its persons are.
+     */
+    @SuppressWarnings("unchecked")
+    private static ShownPersonList<?> createShownPersonList(Logic logic) {
+        ObservableList<Person> filteredPersons = logic.getFilteredPersonList();
+        if (logic.isAddressBookReadOnly() && filteredPersons instanceof TransformationList) {
+            TransformationList<Person, Person> filteredView = (TransformationList<Person, Person>) filteredPersons;
+            ObservableList<? extends Person> persons = filteredView.getSource();
+            return new ShownPersonList<>(filteredPersons, filteredView::getSourceIndex, persons::get);
+        }
+        return new ShownPersonList<>(filteredPersons, filteredPersons::get, person -> person);
+    }
+
+    /**
+     * Replaces the ranges of the shown list that commands have changed since it was last updated on the result
+     * executor, then runs {@code afterShowing} there. Must be called on the worker.
+     */
+    private void showChanges(Runnable afterShowing) {
+        Runnable showPendingChanges = shownPersons.takePendingChanges();
+        resultExecutor.execute(() -> {
+            showPendingChanges.run();
+            afterShowing.run();
+        });
+    }
+}
@@ -1,6 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +14,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.NotePhrase;
 
 /**
  * API of the Logic component
@@ -23,6 +29,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the filter that shows the persons that {@code commandText} would find, if it is a search command that
+     * can be previewed while it is typed. Can be called from any thread, and never changes the filtered list.
+     */
+    Optional<Predicate<Person>> computeLiveFilter(String commandText);
+
+    /**
+     * Filters the filtered list with {@code liveFilter}, as computed by {@link #computeLiveFilter(String)}, until
+     * the next command is executed or the live filter is cleared.
+     */
+    void showLiveFilter(Predicate<Person> liveFilter);
+
+    /**
+     * Shows all persons again if a live filter is shown.
+     */
+    void clearLiveFilter();
+
+    /**
+     * Sets the handler that receives a user-facing error message whenever a background save of the address book
+     * fails. The handler is called from the saving thread, not the JavaFX Application Thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Writes any address book changes that have not been saved yet, blocking until they are written.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    void flushPendingSaves() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +66,28 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns true if the address book is open read-only.
+     *
+     * @see seedu.address.model.Model#isReadOnly()
+     */
+    boolean isAddressBookReadOnly();
+
+    /**
+     * Returns an unmodifiable view of the filtered list of persons, which changes on whichever thread executes
+     * commands.
+     *
+     * @see CommandPipeline#getShownPersonList()
+     */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the note phrases to highlight when a person in the filtered list is viewed.
+     *
+     * @see seedu.address.model.Model#getNoteHighlightPhrases()
+     */
+    List<NotePhrase> getNoteHighlightPhrases();
+
     /**
      * Returns the user prefs' address book file path.
      */
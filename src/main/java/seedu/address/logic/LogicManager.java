@@ -1,10 +1,17 @@
 package seedu.address.logic;
 
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -15,7 +22,10 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.exceptions.ReadOnlyAddressBookException;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.NotePhrase;
+import seedu.address.storage.AutosaveScheduler;
 import seedu.address.storage.Storage;
 
 /**
@@ -30,16 +40,34 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AutosaveScheduler autosaveScheduler;
+
+    /** Held while the model is used, so that live searches on other threads do not overlap commands. */
+    private final Object modelLock = new Object();
+
+    private boolean isAddressBookModified;
+    private boolean isLiveFilterShown;
+    private volatile Consumer<String> saveFailureHandler = unused -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AutosaveScheduler.DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes to {@code storage} {@code autosaveDelayMillis}
+     * milliseconds after the first of a burst of modifying commands.
+     */
+    public LogicManager(Model model, Storage storage, long autosaveDelayMillis) {
         this.model = model;
-        this.storage = storage;
         addressBookParser = new AddressBookParser();
+        autosaveScheduler = new AutosaveScheduler(storage, autosaveDelayMillis);
+        autosaveScheduler.setFailureHandler(ioe -> saveFailureHandler.accept(getSaveErrorMessage(ioe)));
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) unused ->
+                isAddressBookModified = true);
     }
 
     @Override
@@ -48,29 +76,103 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        synchronized (modelLock) {
+            isLiveFilterShown = false;
+            try {
+                commandResult = command.execute(model);
+            } catch (ReadOnlyAddressBookException roabe) {
+                throw new CommandException(roabe.getMessage(), roabe);
+            } finally {
+                requestSaveIfModified();
+            }
         }
 
         return commandResult;
     }
 
+    @Override
+    public Optional<Predicate<Person>> computeLiveFilter(String commandText) {
+        List<String> nameKeywords = addressBookParser.parseLiveNameKeywords(commandText);
+        if (nameKeywords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        synchronized (modelLock) {
+            return Optional.of(model.getNameKeywordsFilter(nameKeywords));
+        }
+    }
+
+    @Override
+    public void showLiveFilter(Predicate<Person> liveFilter) {
+        synchronized (modelLock) {
+            model.updateFilteredPersonList(liveFilter);
+            isLiveFilterShown = true;
+        }
+    }
+
+    @Override
+    public void clearLiveFilter() {
+        synchronized (modelLock) {
+            if (isLiveFilterShown) {
+                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+                isLiveFilterShown = false;
+            }
+        }
+    }
+
+    /**
+     * Schedules a background save if the last command changed the address book.
+     * Commands that only read the address book do not trigger a save.
+     */
+    private void requestSaveIfModified() {
+        if (!isAddressBookModified) {
+            return;
+        }
+
+        isAddressBookModified = false;
+        autosaveScheduler.requestSave(model.getAddressBook());
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        autosaveScheduler.flush();
+    }
+
+    /**
+     * Returns the message shown to the user when saving fails with {@code ioe}.
+     */
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public boolean isAddressBookReadOnly() {
+        return model.isReadOnly();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public List<NotePhrase> getNoteHighlightPhrases() {
+        return model.getNoteHighlightPhrases();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
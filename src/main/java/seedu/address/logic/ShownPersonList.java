@@ -0,0 +1,174 @@
+package seedu.address.logic;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the filtered person list that is only changed on the thread that shows it.
+ * The changes to the filtered list are collected as ranges of rows on the thread that makes them, and are shown later
+ * through {@link #takePendingChanges()}, so updating this list costs as much as the changes, not the whole list.
+ * <p>
+ * Each row refers to its person by a value of type {@code R} that is taken from the filtered list when the row is
+ * added. This is the person itself, unless the persons of the address book never change: then it can be the position
+ * of the person in the address book, so that a person who is created on demand is only created when its row is read,
+ * and is not kept by this list.
+ *
+ * @param <R> the type of value that rows refer to their persons by.
+ */
+class ShownPersonList<R> extends ObservableListBase<Person> {
+
+    private final IntFunction<R> rowAt;
+    private final Function<R, Person> toPerson;
+    private final List<R> rows;
+    /** The changes to the filtered list that have yet to be shown. Only used on the thread that changes it. */
+    private List<RowChange<R>> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code filteredPersons} whose rows are taken by {@code rowAt} from the positions of the
+     * filtered list, and are turned back into persons by {@code toPerson}.
+     */
+    ShownPersonList(ObservableList<Person> filteredPersons, IntFunction<R> rowAt, Function<R, Person> toPerson) {
+        this.rowAt = rowAt;
+        this.toPerson = toPerson;
+        rows = new ArrayList<>(filteredPersons.size());
+        for (int i = 0; i < filteredPersons.size(); i++) {
+            rows.add(rowAt.apply(i));
+        }
+        filteredPersons.addListener(this::collectChange);
+    }
+
+    @Override
+    public Person get(int index) {
+        return toPerson.apply(rows.get(index));
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Records the rows that {@code change} replaced. The positions of a change are those of the filtered list after
+     * it, so the rows added by each part of the change can be taken from the filtered list as it is now.
+     */
+    private void collectChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            boolean isWholeRangeReplaced = change.wasPermutated() || change.wasUpdated();
+            int removedCount = isWholeRangeReplaced ? change.getTo() - from : change.getRemovedSize();
+            int addedTo = isWholeRangeReplaced || change.wasAdded() ? change.getTo() : from;
+
+            List<R> addedRows = new ArrayList<>(addedTo - from);
+            for (int i = from; i < addedTo; i++) {
+                addedRows.add(rowAt.apply(i));
+            }
+            pendingChanges.add(new RowChange<>(from, removedCount, addedRows));
+        }
+    }
+
+    /**
+     * Returns a task that shows the changes to the filtered list collected so far, in the order they were made, when
+     * it is run on the thread that shows this list. Must be called on the thread that changes the filtered list.
+     */
+    Runnable takePendingChanges() {
+        List<RowChange<R>> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        return () -> changes.forEach(this::show);
+    }
+
+    private void show(RowChange<R> change) {
+        if (change.removedCount == 0 && change.addedRows.isEmpty()) {
+            return;
+        }
+
+        List<R> removedRange = rows.subList(change.from, change.from + change.removedCount);
+        List<R> removedRows = new ArrayList<>(removedRange);
+        removedRange.clear();
+        rows.addAll(change.from, change.addedRows);
+        fireChange(new ShownChange(change.from, change.from + change.addedRows.size(), removedRows));
+    }
+
+    /**
+     * The rows that replaced {@code removedCount} rows at {@code from} of the filtered list.
+     */
+    private static class RowChange<R> {
+        private final int from;
+        private final int removedCount;
+        private final List<R> addedRows;
+
+        RowChange(int from, int removedCount, List<R> addedRows) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.addedRows = addedRows;
+        }
+    }
+
+    /**
+     * A change of this list that replaced one range of rows. Its removed persons are only looked up when asked for.
+     */
+    private class ShownChange extends ListChangeListener.Change<Person> {
+        private final int from;
+        private final int to;
+        private final List<Person> removed;
+        private boolean isStarted;
+
+        ShownChange(int from, int to, List<R> removedRows) {
+            super(ShownPersonList.this);
+            this.from = from;
+            this.to = to;
+            removed = new AbstractList<>() {
+                @Override
+                public Person get(int index) {
+                    return toPerson.apply(removedRows.get(index));
+                }
+
+                @Override
+                public int size() {
+                    return removedRows.size();
+                }
+            };
+        }
+
+        @Override
+        public boolean next() {
+            if (isStarted) {
+                return false;
+            }
+            isStarted = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            isStarted = false;
+        }
+
+        @Override
+        public int getFrom() {
+            return from;
+        }
+
+        @Override
+        public int getTo() {
+            return to;
+        }
+
+        @Override
+        public List<Person> getRemoved() {
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+    }
+}
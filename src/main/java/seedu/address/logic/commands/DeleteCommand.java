@@ -3,12 +3,19 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.ui.DeletePopup;
 
@@ -26,9 +33,15 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
 
+    public static final String MESSAGE_DELETION_CANCELLED = "Deletion cancelled.";
+
+    /** Most persons offered to choose from when deleting by name. */
+    public static final int MAX_CANDIDATES = 10;
+
     private final Index targetIndex;
     private final String targetName;
     private final boolean isDeletedByName;
+    private final PersonChooser personChooser;
 
     /**
      * Creates a DeleteCommand to delete by index.
@@ -37,15 +50,27 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
         this.targetName = null;
         this.isDeletedByName = false;
+        this.personChooser = null;
     }
 
     /**
-     * Creates a DeleteCommand to delete by name.
+     * Creates a DeleteCommand to delete by name, which asks the user to choose in a popup when the name does not
+     * match exactly one person.
      */
     public DeleteCommand(String targetName) {
+        this(targetName, DeleteCommand::chooseInPopup);
+    }
+
+    /**
+     * Creates a DeleteCommand to delete by name, which asks {@code personChooser} to choose when the name does not
+     * match exactly one person.
+     */
+    public DeleteCommand(String targetName, PersonChooser personChooser) {
+        requireNonNull(personChooser);
         this.targetIndex = null;
         this.targetName = targetName;
         this.isDeletedByName = true;
+        this.personChooser = personChooser;
     }
 
     @Override
@@ -55,8 +80,11 @@ public class DeleteCommand extends Command {
 
         // delete by name
         if (isDeletedByName) {
-            List<Person> exactMatches = lastShownList.stream()
-                    .filter(p -> p.getName().fullName.equalsIgnoreCase(targetName))
+            List<Person> candidates = model.findPersonsWithSimilarName(targetName, MAX_CANDIDATES);
+            // compared the way names are ranked, ignoring case and extra whitespace
+            String normalizedTargetName = Name.normalizeName(targetName).toLowerCase();
+            List<Person> exactMatches = candidates.stream()
+                    .filter(p -> p.getName().getNormalizedName().equals(normalizedTargetName))
                     .toList();
 
             if (exactMatches.size() == 1) {
@@ -66,19 +94,11 @@ public class DeleteCommand extends Command {
                         Messages.format(personToDelete)));
             }
 
-            // same name duplicates or multiple results when partial info is provided
-            List<Person> possibleMatches = exactMatches.isEmpty()
-                    ? lastShownList.stream()
-                    .filter(p -> p.getName().fullName.toLowerCase().contains(targetName.toLowerCase()))
-                    .toList()
-                    : exactMatches;
-
-            if (possibleMatches.isEmpty()) {
-                showNoMatchPopup();
-                throw new CommandException("Deletion cancelled.");
-            }
+            // same name duplicates, or the closest names when partial or misspelled info is provided
+            List<Person> possibleMatches = exactMatches.isEmpty() ? candidates : exactMatches;
 
-            Person selectedPerson = showDeletePopup(possibleMatches);
+            Person selectedPerson = personChooser.choose(possibleMatches)
+                    .orElseThrow(() -> new CommandException(MESSAGE_DELETION_CANCELLED));
             model.deletePerson(selectedPerson);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
                     Messages.format(selectedPerson)));
@@ -95,26 +115,45 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Shows a Delete Pop up for the user to select from matchingResults.
-     * */
-    private Person showDeletePopup(List<Person> matchingResults) throws CommandException {
-        DeletePopup deletePopup = new DeletePopup();
-        deletePopup.show("Multiple matches found. Type index and ENTER to delete or ESC to cancel:",
-                matchingResults);
-
-        if (deletePopup.isConfirmed()) {
-            return deletePopup.getSelectedPerson();
-        } else {
-            throw new CommandException("Deletion cancelled.");
-        }
+     * Shows a Delete Pop up for the user to select from {@code candidates}, or to tell the user no match was found
+     * if there are none.
+     */
+    private static Optional<Person> chooseInPopup(List<Person> candidates) throws CommandException {
+        return runOnFxThread(() -> {
+            DeletePopup deletePopup = new DeletePopup();
+            if (candidates.isEmpty()) {
+                deletePopup.show("No matches found. Press ESC to exit.", List.of());
+                return Optional.empty();
+            }
+
+            deletePopup.show("Multiple matches found. Type index and ENTER to delete or ESC to cancel:", candidates);
+            return deletePopup.isConfirmed() ? Optional.of(deletePopup.getSelectedPerson()) : Optional.empty();
+        });
     }
 
     /**
-     * Shows a Delete Pop up to tell the user no match found.
+     * Runs {@code popupTask} on the JavaFX Application Thread, where popups have to be shown, and waits for it,
+     * as commands usually run on the worker of the command pipeline.
      */
-    private void showNoMatchPopup() {
-        DeletePopup deletePopup = new DeletePopup();
-        deletePopup.show("No matches found. Press ESC to exit.", List.of());
+    private static <T> T runOnFxThread(Callable<T> popupTask) throws CommandException {
+        FutureTask<T> task = new FutureTask<>(popupTask);
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_DELETION_CANCELLED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CommandException(MESSAGE_DELETION_CANCELLED, e.getCause());
+        }
     }
 
     @Override
@@ -145,4 +184,16 @@ public class DeleteCommand extends Command {
                 .add("isDeletedByName", isDeletedByName)
                 .toString();
     }
+
+    /**
+     * Chooses the person to delete when a name does not match exactly one person.
+     */
+    @FunctionalInterface
+    public interface PersonChooser {
+        /**
+         * Returns the person chosen from {@code candidates}, which is empty if no person has a similar name, or
+         * {@code Optional.empty()} if none is chosen.
+         */
+        Optional<Person> choose(List<Person> candidates) throws CommandException;
+    }
 }
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.ClassMatchesPredicate;
+
+/**
+ * Finds and lists all persons in address book who are in any of the argument classes.
+ * Class matching is case insensitive.
+ */
+public class FindClassCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-c";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons in any of the specified classes "
+            + "(case-insensitive) and displays them as a list with index numbers.\n"
+            + "Parameters: CLASS [MORE_CLASSES]...\n"
+            + "Example: " + COMMAND_WORD + " K1A K2B";
+
+    private final ClassMatchesPredicate predicate;
+
+    public FindClassCommand(ClassMatchesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListBySearch(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindClassCommand)) {
+            return false;
+        }
+
+        FindClassCommand otherFindClassCommand = (FindClassCommand) other;
+        return predicate.equals(otherFindClassCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
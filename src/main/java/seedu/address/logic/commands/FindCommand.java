@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.search.SearchClause;
+
+/**
+ * Finds and lists all persons in address book who match a query that combines name, phone, tag, class and note
+ * clauses with AND, OR and NOT.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who match the query "
+            + "and displays them as a list with index numbers.\n"
+            + "A query is made of clauses " + PREFIX_NAME + "NAME_KEYWORD, " + PREFIX_PHONE + "PARTIAL_PHONE, "
+            + PREFIX_TAG + "TAG_KEYWORD, " + PREFIX_CLASS + "CLASS and " + PREFIX_NOTE + "NOTE_KEYWORD, "
+            + "combined with AND, OR, NOT and parentheses. Clauses next to each other must all match.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASS + "K2B AND " + PREFIX_TAG + "allergy AND "
+            + "(" + PREFIX_NAME + "tan OR " + PREFIX_NAME + "lim) AND NOT " + PREFIX_NOTE + "peanut";
+
+    private final SearchClause query;
+
+    public FindCommand(SearchClause query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListBySearch(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindCommand)) {
+            return false;
+        }
+
+        FindCommand otherFindCommand = (FindCommand) other;
+        return query.equals(otherFindCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -6,10 +6,12 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.SimilarNameQuery;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. If no name contains a keyword, lists the persons with the most similar
+ * names instead, so that misspelled keywords still find someone.
  */
 public class FindNameCommand extends Command {
 
@@ -20,6 +22,12 @@ public class FindNameCommand extends Command {
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    public static final String MESSAGE_SIMILAR_PERSONS_LISTED =
+            "No names contain the keywords. %1$d persons with similar names listed!";
+
+    /** Most persons listed when falling back to similar names. */
+    public static final int MAX_SIMILAR_PERSONS = 10;
+
     private final NameContainsKeywordsPredicate predicate;
 
     public FindNameCommand(NameContainsKeywordsPredicate predicate) {
@@ -29,7 +37,15 @@ public class FindNameCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListBySearch(predicate);
+        if (model.getFilteredPersonList().isEmpty()) {
+            model.updateFilteredPersonListBySearch(
+                    new SimilarNameQuery(String.join(" ", predicate.getKeywords()), MAX_SIMILAR_PERSONS));
+            if (!model.getFilteredPersonList().isEmpty()) {
+                return new CommandResult(
+                        String.format(MESSAGE_SIMILAR_PERSONS_LISTED, model.getFilteredPersonList().size()));
+            }
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
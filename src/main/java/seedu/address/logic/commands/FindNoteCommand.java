@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.NoteContainsPhrasesPredicate;
+
+/**
+ * Finds and lists all persons in address book whose note contains any of the argument words or phrases.
+ * Matching is case insensitive, and the matching parts of notes are highlighted when a person is viewed.
+ */
+public class FindNoteCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-note";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose notes contain any of "
+            + "the specified words or phrases (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Put words in double quotes to find them as a phrase, and end a word or phrase with * to also find "
+            + "the words that start with its last word.\n"
+            + "Parameters: WORD_OR_PHRASE [MORE_WORDS_OR_PHRASES]...\n"
+            + "Example: " + COMMAND_WORD + " \"allergic to peanuts\" asthma*";
+
+    private final NoteContainsPhrasesPredicate predicate;
+
+    public FindNoteCommand(NoteContainsPhrasesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListBySearch(predicate);
+        model.setNoteHighlightPhrases(predicate.getPhrases());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindNoteCommand)) {
+            return false;
+        }
+
+        FindNoteCommand otherFindNoteCommand = (FindNoteCommand) other;
+        return predicate.equals(otherFindNoteCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
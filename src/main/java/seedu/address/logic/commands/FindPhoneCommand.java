@@ -9,15 +9,18 @@ import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose phone number contains any of the argument keywords.
- * Keyword matching works on partial numbers.
+ * Keyword matching works on partial numbers, anywhere in the number or if requested only at its start.
  */
 public class FindPhoneCommand extends Command {
 
     public static final String COMMAND_WORD = "find-p";
 
+    public static final String PREFIX_MATCH_FLAG = "-s";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone number contain any of "
             + "the specified keywords and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + PREFIX_MATCH_FLAG + ", only numbers starting with a keyword are matched.\n"
+            + "Parameters: [" + PREFIX_MATCH_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " 84123578";
 
     private final PhoneContainsKeywordsPredicate predicate;
@@ -29,7 +32,7 @@ public class FindPhoneCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListBySearch(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -8,17 +8,20 @@ import seedu.address.model.Model;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose Tag contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book who have a Tag starting with, or if requested equal to, any of the
+ * argument keywords. Keyword matching is case insensitive.
  */
 public class FindTagCommand extends Command {
 
     public static final String COMMAND_WORD = "find-t";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tag contain any of "
+    public static final String EXACT_MATCH_FLAG = "-e";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with a tag starting with any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " friend colleague";
+            + "With " + EXACT_MATCH_FLAG + ", only tags equal to a keyword are matched.\n"
+            + "Parameters: [" + EXACT_MATCH_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " friend coll";
 
     private final TagContainsKeywordsPredicate predicate;
 
@@ -33,7 +36,7 @@ public class FindTagCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListBySearch(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
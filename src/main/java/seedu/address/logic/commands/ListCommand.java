@@ -1,24 +1,79 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.ClassMatchesPredicate;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book, or all persons in the given classes, to the user.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, or only the persons in the "
+            + "specified classes (case-insensitive).\n"
+            + "Parameters: [" + PREFIX_CLASS + "CLASS]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    private final Optional<ClassMatchesPredicate> classPredicate;
+
+    /**
+     * Creates a ListCommand that lists all persons.
+     */
+    public ListCommand() {
+        classPredicate = Optional.empty();
+    }
+
+    /**
+     * Creates a ListCommand that lists the persons matching {@code classPredicate}.
+     */
+    public ListCommand(ClassMatchesPredicate classPredicate) {
+        requireNonNull(classPredicate);
+        this.classPredicate = Optional.of(classPredicate);
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (classPredicate.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.updateFilteredPersonListBySearch(classPredicate.get());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return classPredicate.equals(otherListCommand.classPredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classPredicate", classPredicate)
+                .toString();
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -14,7 +17,10 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindClassCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindNameCommand;
+import seedu.address.logic.commands.FindNoteCommand;
 import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.HelpCommand;
@@ -68,6 +74,9 @@ public class AddressBookParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case FindCommand.COMMAND_WORD:
+            return new FindCommandParser().parse(arguments);
+
         case FindNameCommand.COMMAND_WORD:
             return new FindNameCommandParser().parse(arguments);
 
@@ -77,8 +86,14 @@ public class AddressBookParser {
         case FindPhoneCommand.COMMAND_WORD:
             return new FindPhoneCommandParser().parse(arguments);
 
+        case FindClassCommand.COMMAND_WORD:
+            return new FindClassCommandParser().parse(arguments);
+
+        case FindNoteCommand.COMMAND_WORD:
+            return new FindNoteCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -98,4 +113,22 @@ public class AddressBookParser {
         }
     }
 
+    /**
+     * Returns the name keywords of {@code userInput} if it is a {@code find-n} command with keywords, even one that
+     * is still being typed, so that the persons it finds can be shown as it is typed.
+     * Returns an empty list for any other input.
+     */
+    public List<String> parseLiveNameKeywords(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches() || !matcher.group("commandWord").equals(FindNameCommand.COMMAND_WORD)) {
+            return Collections.emptyList();
+        }
+
+        String trimmedArgs = matcher.group("arguments").trim();
+        if (trimmedArgs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(trimmedArgs.split("\\s+"));
+    }
+
 }
@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +12,145 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * A prefix is only recognized right after a space. The prefixes are recognized by a small automaton, a trie of the
+ * prefixes, which is built once when the tokenizer is created. Tokenizing then reads the arguments string once from
+ * left to right, so parsers that tokenize many commands should keep a tokenizer for their prefixes.
  */
 public class ArgumentTokenizer {
 
-    /**
-     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to tokenize the arguments string with
-     * @return           ArgumentMultimap object that maps prefixes to their arguments
-     */
-    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+    public static final String MESSAGE_INVALID_PREFIX = "Prefixes should not be empty or contain spaces";
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
+    /** The prefix under which the preamble is stored. */
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
+    private static final int ROOT_STATE = 0;
+    private static final int NO_STATE = -1;
+
+    /*
+     * The states of the automaton are the nodes of the trie, with the root as state 0. For each state, these arrays
+     * hold the character that leads to it from its parent, its first child and its next sibling, and the prefix that
+     * ends there, if any.
      */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+    private final char[] stateCharacters;
+    private final int[] firstChildStates;
+    private final int[] nextSiblingStates;
+    private final Prefix[] acceptedPrefixes;
 
     /**
-     * {@see findAllPrefixPositions}
+     * Creates a tokenizer that recognizes the given prefixes.
+     *
+     * @throws IllegalArgumentException if a prefix is empty or contains a space.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    public ArgumentTokenizer(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        int maxStateCount = 1;
+        for (Prefix prefix : prefixes) {
+            String text = prefix.getPrefix();
+            checkArgument(!text.isEmpty() && text.indexOf(' ') < 0, MESSAGE_INVALID_PREFIX);
+            maxStateCount += text.length();
         }
 
-        return positions;
+        stateCharacters = new char[maxStateCount];
+        firstChildStates = new int[maxStateCount];
+        nextSiblingStates = new int[maxStateCount];
+        acceptedPrefixes = new Prefix[maxStateCount];
+        Arrays.fill(firstChildStates, NO_STATE);
+
+        int stateCount = 1;
+        for (Prefix prefix : prefixes) {
+            String text = prefix.getPrefix();
+            int state = ROOT_STATE;
+            for (int i = 0; i < text.length(); i++) {
+                int child = findChild(state, text.charAt(i));
+                if (child == NO_STATE) {
+                    child = stateCount++;
+                    stateCharacters[child] = text.charAt(i);
+                    nextSiblingStates[child] = firstChildStates[state];
+                    firstChildStates[state] = child;
+                }
+                state = child;
+            }
+            acceptedPrefixes[state] = prefix;
+        }
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param prefixes   Prefixes to tokenize the arguments string with
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        return new ArgumentTokenizer(prefixes).tokenizeArguments(argsString);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
+     * Where prefixes overlap, such as {@code t/} and {@code t/x}, the longest prefix that matches is recognized.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenizeArguments(String argsString) {
+        requireNonNull(argsString);
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE_PREFIX;
+        int valueStartPos = 0;
+
+        // the state of the automaton while it reads a possible prefix that starts at candidateStartPos
+        int state = NO_STATE;
+        int candidateStartPos = 0;
+        // the longest prefix read so far from candidateStartPos, which is recognized once no longer prefix can match
+        Prefix matchedPrefix = null;
+        int matchedEndPos = 0;
+
+        for (int i = 0; i < argsString.length(); i++) {
+            char c = argsString.charAt(i);
+            if (state != NO_STATE) {
+                state = c == ' ' ? NO_STATE : findChild(state, c);
+                if (state != NO_STATE && acceptedPrefixes[state] != null) {
+                    matchedPrefix = acceptedPrefixes[state];
+                    matchedEndPos = i + 1;
+                }
+            }
+
+            if (state == NO_STATE && matchedPrefix != null) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStartPos, candidateStartPos).trim());
+                currentPrefix = matchedPrefix;
+                valueStartPos = matchedEndPos;
+                matchedPrefix = null;
+            }
+
+            if (c == ' ') {
+                state = ROOT_STATE;
+                candidateStartPos = i + 1;
+            }
         }
 
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+        if (matchedPrefix != null) {
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos, candidateStartPos).trim());
+            currentPrefix = matchedPrefix;
+            valueStartPos = matchedEndPos;
+        }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
 
-        return value.trim();
+        return argMultimap;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the state that {@code state} moves to on reading {@code c}, or {@code NO_STATE} if there is none.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+    private int findChild(int state, char c) {
+        for (int child = firstChildStates[state]; child != NO_STATE; child = nextSiblingStates[child]) {
+            if (stateCharacters[child] == c) {
+                return child;
+            }
         }
+        return NO_STATE;
     }
 
 }
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindClassCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
+
+/**
+ * Parses input arguments and creates a new FindClassCommand object
+ */
+public class FindClassCommandParser implements Parser<FindClassCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindClassCommand
+     * and returns a FindClassCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindClassCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindClassCommand.MESSAGE_USAGE));
+        }
+
+        List<Class> classes = new ArrayList<>();
+        for (String studentClass : trimmedArgs.split("\\s+")) {
+            classes.add(ParserUtil.parseClass(studentClass));
+        }
+
+        return new FindClassCommand(new ClassMatchesPredicate(classes));
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.ClassMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NoteContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AndClause;
+import seedu.address.model.search.NotClause;
+import seedu.address.model.search.OrClause;
+import seedu.address.model.search.SearchClause;
+
+/**
+ * Parses input arguments and creates a new FindCommand object.
+ * <p>
+ * The query grammar, in which NOT binds tightest and AND binds tighter than OR, is:
+ * <pre>
+ * query  := and ("OR" and)*
+ * and    := not (["AND"] not)*
+ * not    := "NOT" not | "(" query ")" | clause
+ * clause := n/KEYWORD | p/PARTIAL_PHONE | t/TAG_KEYWORD | c/CLASS | desc/NOTE_KEYWORD
+ * </pre>
+ * Operators are case-insensitive. Each clause matches the persons that the single-field find command for that
+ * field would match with the same keyword.
+ */
+public class FindCommandParser implements Parser<FindCommand> {
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns a FindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindCommand parse(String args) throws ParseException {
+        Deque<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        SearchClause query = parseOr(tokens);
+        if (!tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FindCommand(query);
+    }
+
+    /**
+     * Splits {@code args} at whitespace, and splits off the parentheses at the start or end of each word.
+     */
+    private static Deque<String> tokenize(String args) {
+        Deque<String> tokens = new ArrayDeque<>();
+        for (String word : args.trim().split("\\s+")) {
+            int start = 0;
+            int end = word.length();
+            while (start < end && word.charAt(start) == '(') {
+                tokens.add(OPEN_PARENTHESIS);
+                start++;
+            }
+            int closeCount = 0;
+            while (end > start && word.charAt(end - 1) == ')') {
+                closeCount++;
+                end--;
+            }
+            if (start < end) {
+                tokens.add(word.substring(start, end));
+            }
+            for (int i = 0; i < closeCount; i++) {
+                tokens.add(CLOSE_PARENTHESIS);
+            }
+        }
+        return tokens;
+    }
+
+    private static SearchClause parseOr(Deque<String> tokens) throws ParseException {
+        List<SearchClause> clauses = new ArrayList<>();
+        clauses.add(parseAnd(tokens));
+        while (!tokens.isEmpty() && tokens.peek().equalsIgnoreCase(OPERATOR_OR)) {
+            tokens.pop();
+            clauses.add(parseAnd(tokens));
+        }
+        return clauses.size() == 1 ? clauses.get(0) : new OrClause(clauses);
+    }
+
+    private static SearchClause parseAnd(Deque<String> tokens) throws ParseException {
+        List<SearchClause> clauses = new ArrayList<>();
+        clauses.add(parseNot(tokens));
+        while (!tokens.isEmpty() && !tokens.peek().equalsIgnoreCase(OPERATOR_OR)
+                && !tokens.peek().equals(CLOSE_PARENTHESIS)) {
+            if (tokens.peek().equalsIgnoreCase(OPERATOR_AND)) {
+                tokens.pop();
+            }
+            clauses.add(parseNot(tokens));
+        }
+        return clauses.size() == 1 ? clauses.get(0) : new AndClause(clauses);
+    }
+
+    private static SearchClause parseNot(Deque<String> tokens) throws ParseException {
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        String token = tokens.pop();
+        if (token.equalsIgnoreCase(OPERATOR_NOT)) {
+            return new NotClause(parseNot(tokens));
+        }
+        if (token.equals(OPEN_PARENTHESIS)) {
+            SearchClause query = parseOr(tokens);
+            if (tokens.isEmpty() || !tokens.pop().equals(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+        return parseClause(token);
+    }
+
+    private static SearchClause parseClause(String token) throws ParseException {
+        if (token.startsWith(PREFIX_NAME.getPrefix())) {
+            return new NameContainsKeywordsPredicate(List.of(getValue(token, PREFIX_NAME)));
+        }
+        if (token.startsWith(PREFIX_PHONE.getPrefix())) {
+            return new PhoneContainsKeywordsPredicate(List.of(getValue(token, PREFIX_PHONE)));
+        }
+        if (token.startsWith(PREFIX_TAG.getPrefix())) {
+            return new TagContainsKeywordsPredicate(List.of(getValue(token, PREFIX_TAG)));
+        }
+        if (token.startsWith(PREFIX_CLASS.getPrefix())) {
+            return new ClassMatchesPredicate(List.of(ParserUtil.parseClass(getValue(token, PREFIX_CLASS))));
+        }
+        if (token.startsWith(PREFIX_NOTE.getPrefix())) {
+            return new NoteContainsKeywordsPredicate(List.of(getValue(token, PREFIX_NOTE)));
+        }
+        throw invalidFormat();
+    }
+
+    private static String getValue(String token, Prefix prefix) throws ParseException {
+        String value = token.substring(prefix.getPrefix().length());
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+        return value;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindNoteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NoteContainsPhrasesPredicate;
+import seedu.address.model.search.NotePhrase;
+
+/**
+ * Parses input arguments and creates a new FindNoteCommand object.
+ * Text in double quotes is one phrase, and any other word is a phrase of its own. A phrase that ends with
+ * {@code *} also matches notes in which its last word is only the start of a word.
+ */
+public class FindNoteCommandParser implements Parser<FindNoteCommand> {
+
+    private static final char QUOTE = '"';
+    private static final char PREFIX_MARKER = '*';
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindNoteCommand
+     * and returns a FindNoteCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindNoteCommand parse(String args) throws ParseException {
+        List<NotePhrase> phrases = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            if (StringUtil.isWhitespace(args.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int end;
+            String text;
+            if (args.charAt(i) == QUOTE) {
+                int closingQuote = args.indexOf(QUOTE, i + 1);
+                if (closingQuote < 0) {
+                    throw invalidFormat();
+                }
+                text = args.substring(i + 1, closingQuote);
+                end = closingQuote + 1;
+            } else {
+                end = i;
+                while (end < args.length() && !StringUtil.isWhitespace(args.charAt(end))
+                        && args.charAt(end) != PREFIX_MARKER) {
+                    end++;
+                }
+                text = args.substring(i, end);
+            }
+
+            boolean isPrefix = end < args.length() && args.charAt(end) == PREFIX_MARKER;
+            if (isPrefix) {
+                end++;
+            }
+            boolean isAtEndOfWord = end == args.length() || StringUtil.isWhitespace(args.charAt(end));
+            if (!isAtEndOfWord || !NotePhrase.isValidPhrase(text)) {
+                throw invalidFormat();
+            }
+            phrases.add(new NotePhrase(text, isPrefix));
+            i = end;
+        }
+
+        if (phrases.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FindNoteCommand(new NoteContainsPhrasesPredicate(phrases));
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+    }
+}
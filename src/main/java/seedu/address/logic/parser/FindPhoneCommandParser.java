@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 
 /**
  * Parses input arguments and creates a new FindPhoneCommand object
@@ -25,8 +27,18 @@ public class FindPhoneCommandParser implements Parser<FindPhoneCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> phoneKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        MatchMode matchMode = MatchMode.SUBSTRING;
+        if (phoneKeywords.get(0).equals(FindPhoneCommand.PREFIX_MATCH_FLAG)) {
+            matchMode = MatchMode.PREFIX;
+            phoneKeywords = phoneKeywords.subList(1, phoneKeywords.size());
+        }
+
+        if (phoneKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+        }
 
-        return new FindPhoneCommand(new PhoneContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindPhoneCommand(new PhoneContainsKeywordsPredicate(phoneKeywords, matchMode));
     }
 }
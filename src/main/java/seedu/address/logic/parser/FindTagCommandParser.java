@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate.MatchMode;
 
 /**
  * Parses input arguments and creates a new FindTagCommand object
@@ -25,9 +27,19 @@ public class FindTagCommandParser implements Parser<FindTagCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
         }
 
-        String[] tagKeywords = trimmedArgs.split("\\s+");
+        List<String> tagKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        MatchMode matchMode = MatchMode.PREFIX;
+        if (tagKeywords.get(0).equals(FindTagCommand.EXACT_MATCH_FLAG)) {
+            matchMode = MatchMode.EXACT;
+            tagKeywords = tagKeywords.subList(1, tagKeywords.size());
+        }
+
+        if (tagKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+        }
 
-        return new FindTagCommand(new TagContainsKeywordsPredicate(Arrays.asList(tagKeywords)));
+        return new FindTagCommand(new TagContainsKeywordsPredicate(tagKeywords, matchMode));
     }
 
 }
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    private static final ArgumentTokenizer ARGUMENT_TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Arguments other than classes are ignored.
+     * @throws ParseException if a given class is invalid
+     */
+    public ListCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ARGUMENT_TOKENIZER.tokenizeArguments(args);
+
+        List<String> classValues = argMultimap.getAllValues(PREFIX_CLASS);
+        if (classValues.isEmpty()) {
+            return new ListCommand();
+        }
+
+        List<Class> classes = new ArrayList<>();
+        for (String studentClass : classValues) {
+            classes.add(ParserUtil.parseClass(studentClass));
+        }
+        return new ListCommand(new ClassMatchesPredicate(classes));
+    }
+}
@@ -15,6 +15,8 @@ import seedu.address.model.person.Note;
  */
 public class NoteCommandParser implements Parser<NoteCommand> {
 
+    private static final ArgumentTokenizer ARGUMENT_TOKENIZER = new ArgumentTokenizer(PREFIX_NOTE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the NoteCommand
      * and returns a NoteCommand object for execution.
@@ -22,7 +24,7 @@ public class NoteCommandParser implements Parser<NoteCommand> {
      */
     public NoteCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, PREFIX_NOTE);
+        ArgumentMultimap argMultiMap = ARGUMENT_TOKENIZER.tokenizeArguments(args);
 
         Index index;
         try {
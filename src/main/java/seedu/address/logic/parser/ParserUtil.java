@@ -124,7 +124,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -151,6 +151,6 @@ public class ParserUtil {
         if (!Class.isValidClass(trimmedClass)) {
             throw new ParseException(Class.MESSAGE_CONSTRAINTS);
         }
-        return new Class(trimmedClass);
+        return Class.of(trimmedClass);
     }
 }
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.NotePhrase;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * The API of the Model component.
@@ -52,6 +55,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns true if the address book is open read-only, so its persons never change.
+     */
+    boolean isReadOnly();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -95,4 +103,37 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only the results of {@code query}, which is answered
+     * from the search index of the address book, or by looking at each person if the address book is not indexed.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListBySearch(SearchQuery query);
+
+    /**
+     * Returns up to {@code limit} persons in the filtered person list whose names are most similar to {@code name},
+     * most similar first. Misspelled names still find the persons they were meant for.
+     * @throws NullPointerException if {@code name} is null.
+     */
+    List<Person> findPersonsWithSimilarName(String name, int limit);
+
+    /**
+     * Returns a test for the persons whose names have a word containing any of {@code keywords}, ignoring case.
+     * Meant for keywords that are refined as they are typed: when each keyword only adds to the keyword at the same
+     * position of the previous call, only the previous matches are checked.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Predicate<Person> getNameKeywordsFilter(List<String> keywords);
+
+    /**
+     * Returns the note phrases to highlight when a person in the filtered person list is viewed.
+     * Empty unless the list was last filtered by the notes of persons.
+     */
+    List<NotePhrase> getNoteHighlightPhrases();
+
+    /**
+     * Sets the note phrases to highlight, until the filter of the filtered person list next changes.
+     * @throws NullPointerException if {@code phrases} is null.
+     */
+    void setNoteHighlightPhrases(List<NotePhrase> phrases);
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +15,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.exceptions.ReadOnlyAddressBookException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.IncrementalNameSearch;
+import seedu.address.model.search.NotePhrase;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchQueryPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,19 +31,38 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private final ObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
 
-    private final AddressBook addressBook;
+    /** The address book that is shown and searched. */
+    private final ReadOnlyAddressBook addressBook;
+    /** The same address book as {@code addressBook} if it may be modified, or null if it is open read-only. */
+    private final AddressBook modifiableAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final IncrementalNameSearch incrementalNameSearch = new IncrementalNameSearch();
+    /** Note phrases to highlight, which belong to the current filter of {@code filteredPersons}. */
+    private List<NotePhrase> noteHighlightPhrases = List.of();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, false);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * If {@code isReadOnly} is true, {@code addressBook} is used as it is instead of being copied, so persons that
+     * it creates on demand are not all created up front, and any attempt to change it throws
+     * {@code ReadOnlyAddressBookException}. Such an address book is not indexed either: searches look at each person
+     * in turn, and keep only the persons they find at most.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, boolean isReadOnly) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs
+                + (isReadOnly ? " in read-only mode" : ""));
 
-        this.addressBook = new AddressBook(addressBook);
+        modifiableAddressBook = isReadOnly ? null : new AddressBook(addressBook);
+        this.addressBook = isReadOnly ? addressBook : modifiableAddressBook;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
     }
@@ -80,9 +108,26 @@ public class ModelManager implements Model {
 
     //=========== AddressBook ================================================================================
 
+    @Override
+    public boolean isReadOnly() {
+        return modifiableAddressBook == null;
+    }
+
+    /**
+     * Returns the address book for an operation that changes it.
+     *
+     * @throws ReadOnlyAddressBookException if the address book is open read-only.
+     */
+    private AddressBook getModifiableAddressBook() {
+        if (isReadOnly()) {
+            throw new ReadOnlyAddressBookException();
+        }
+        return modifiableAddressBook;
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        getModifiableAddressBook().resetData(addressBook);
     }
 
     @Override
@@ -93,24 +138,32 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        if (isReadOnly()) {
+            for (Person existingPerson : addressBook.getPersonList()) {
+                if (existingPerson.isSamePerson(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return modifiableAddressBook.hasPerson(person);
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        getModifiableAddressBook().removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        getModifiableAddressBook().addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        addressBook.setPerson(target, editedPerson);
+        getModifiableAddressBook().setPerson(target, editedPerson);
     }
 
     @Override
@@ -146,6 +199,50 @@ public class ModelManager implements Model {
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        noteHighlightPhrases = List.of();
+    }
+
+    @Override
+    public void updateFilteredPersonListBySearch(SearchQuery query) {
+        requireNonNull(query);
+        if (isReadOnly()) {
+            filteredPersons.setPredicate(query.toScanPredicate(addressBook.getPersonList()));
+        } else {
+            filteredPersons.setPredicate(new SearchQueryPredicate(query, modifiableAddressBook.getSearchIndex()));
+        }
+        noteHighlightPhrases = List.of();
+    }
+
+    @Override
+    public List<NotePhrase> getNoteHighlightPhrases() {
+        return noteHighlightPhrases;
+    }
+
+    @Override
+    public void setNoteHighlightPhrases(List<NotePhrase> phrases) {
+        requireNonNull(phrases);
+        noteHighlightPhrases = List.copyOf(phrases);
+    }
+
+    @Override
+    public List<Person> findPersonsWithSimilarName(String name, int limit) {
+        requireNonNull(name);
+        if (isReadOnly()) {
+            return PersonSearchIndex.scanBySimilarName(filteredPersons, name, limit);
+        }
+        Predicate<? super Person> shownPersons = filteredPersons.getPredicate();
+        return modifiableAddressBook.getSearchIndex().findBySimilarName(name, limit,
+                shownPersons == null ? PREDICATE_SHOW_ALL_PERSONS : shownPersons::test);
+    }
+
+    @Override
+    public Predicate<Person> getNameKeywordsFilter(List<String> keywords) {
+        requireNonNull(keywords);
+        if (isReadOnly()) {
+            return new NameContainsKeywordsPredicate(List.copyOf(keywords));
+        }
+        Set<Person> matches = incrementalNameSearch.search(keywords, modifiableAddressBook.getSearchIndex());
+        return matches::contains;
     }
 
     @Override
@@ -0,0 +1,10 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that the operation would modify an address book that is open read-only.
+ */
+public class ReadOnlyAddressBookException extends RuntimeException {
+    public ReadOnlyAddressBookException() {
+        super("This address book is open read-only and cannot be changed.");
+    }
+}
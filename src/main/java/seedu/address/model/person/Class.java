@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Person's class in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidClass(String)}
@@ -15,10 +18,14 @@ public class Class {
 
     public static final String VALIDATION_REGEX = "^(?i)(Nursery|Pre-K|K[12][A-C])$";
 
+    /** The canonical instance of each class, by value. */
+    private static final ConcurrentMap<String, Class> INSTANCES = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
      * Constructs a {@code Class}.
+     * Prefer {@link #of(String)}, which shares one instance per class.
      *
      * @param studentClass A valid class.
      */
@@ -29,11 +36,58 @@ public class Class {
         value = trimmedClass;
     }
 
+    /**
+     * Returns the {@code Class} for {@code studentClass}, creating it only if no person has had that class before.
+     * Safe to call from several threads.
+     *
+     * @param studentClass A valid class.
+     */
+    public static Class of(String studentClass) {
+        requireNonNull(studentClass);
+        Class existing = INSTANCES.get(studentClass);
+        if (existing != null) {
+            return existing;
+        }
+
+        Class created = new Class(studentClass);
+        return INSTANCES.computeIfAbsent(created.value, unused -> created);
+    }
+
     /**
      * Returns true if a given string is a valid class.
+     * Checks the same rules as {@link #VALIDATION_REGEX} without a regex.
      */
     public static boolean isValidClass(String test) {
-        return test.trim().matches(VALIDATION_REGEX);
+        String trimmedTest = test.trim();
+        if (trimmedTest.length() == 3) {
+            return equalsIgnoreAsciiCase(trimmedTest.charAt(0), 'k')
+                    && (trimmedTest.charAt(1) == '1' || trimmedTest.charAt(1) == '2')
+                    && (equalsIgnoreAsciiCase(trimmedTest.charAt(2), 'a')
+                            || equalsIgnoreAsciiCase(trimmedTest.charAt(2), 'b')
+                            || equalsIgnoreAsciiCase(trimmedTest.charAt(2), 'c'));
+        }
+        return equalsIgnoreAsciiCase(trimmedTest, "nursery") || equalsIgnoreAsciiCase(trimmedTest, "pre-k");
+    }
+
+    /**
+     * Returns true if {@code test} equals {@code lowerCaseExpected} when ASCII letters are compared ignoring case,
+     * as {@code (?i)} does in {@link #VALIDATION_REGEX}.
+     * Unlike {@link String#equalsIgnoreCase(String)}, non-ASCII characters such as the Kelvin sign do not match.
+     */
+    private static boolean equalsIgnoreAsciiCase(String test, String lowerCaseExpected) {
+        if (test.length() != lowerCaseExpected.length()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!equalsIgnoreAsciiCase(test.charAt(i), lowerCaseExpected.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreAsciiCase(char c, char lowerCaseExpected) {
+        return c == lowerCaseExpected || (c >= 'A' && c <= 'Z' && c - 'A' + 'a' == lowerCaseExpected);
     }
 
     @Override
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchClause;
+
+/**
+ * Tests that a {@code Person}'s {@code Class} is any of the classes given.
+ * As a {@code SearchClause}, finds the same persons through the class partition of the index.
+ */
+public class ClassMatchesPredicate implements SearchClause {
+    private final List<Class> classes;
+
+    /**
+     * Creates a predicate that matches the persons in any of {@code classes}.
+     */
+    public ClassMatchesPredicate(List<Class> classes) {
+        requireNonNull(classes);
+        this.classes = classes;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return classes.contains(person.getStudentClass());
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        return index.findByClasses(classes);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.estimateByClasses(classes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClassMatchesPredicate)) {
+            return false;
+        }
+
+        ClassMatchesPredicate otherClassMatchesPredicate = (ClassMatchesPredicate) other;
+        return classes.equals(otherClassMatchesPredicate.classes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("classes", classes).toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -47,9 +49,59 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Checks the same rules as {@link #VALIDATION_REGEX}, in a single pass without a regex.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int atIndex = test.indexOf('@');
+        return atIndex >= 0
+                && isSeparatedAlphanumericRuns(test, 0, atIndex, SPECIAL_CHARACTERS)
+                && isValidDomain(test, atIndex + 1);
+    }
+
+    /**
+     * Returns true if the domain starting at {@code start} in {@code test} is domain labels separated by periods,
+     * and the last label has two alphanumeric characters in a row.
+     * The latter is what {@code DOMAIN_LAST_PART_REGEX} requires, as it matches two or more labels joined together.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int labelStart = start;
+        for (int dotIndex = test.indexOf('.', start); dotIndex >= 0; dotIndex = test.indexOf('.', labelStart)) {
+            if (!isSeparatedAlphanumericRuns(test, labelStart, dotIndex, "-")) {
+                return false;
+            }
+            labelStart = dotIndex + 1;
+        }
+        return isSeparatedAlphanumericRuns(test, labelStart, test.length(), "-")
+                && hasAdjacentAlphanumerics(test, labelStart, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is one or more runs of ASCII alphanumeric
+     * characters, with a single one of {@code separators} between consecutive runs.
+     */
+    private static boolean isSeparatedAlphanumericRuns(String test, int start, int end, String separators) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && separators.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (StringUtil.isAsciiAlphanumeric(test.charAt(i - 1))
+                    && StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +23,9 @@ public class Name {
 
     public final String fullName;
 
+    /** {@code fullName} in lower case, computed once as it is compared in every duplicate check. */
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,30 +36,70 @@ public class Name {
         String normalizedName = normalizeName(name);
         checkArgument(isValidName(normalizedName), MESSAGE_CONSTRAINTS);
         fullName = normalizedName;
+        this.normalizedName = normalizedName.toLowerCase();
     }
 
     /**
      * Normalizes the name by trimming spaces and collapsing multiple spaces into one.
+     * Only creates a new string if the trimmed name has whitespace other than single spaces.
      */
-    private static String normalizeName(String name) {
-        return name.trim().replaceAll("\\s+", " ");
+    public static String normalizeName(String name) {
+        String trimmedName = name.trim();
+        if (!hasWhitespaceToCollapse(trimmedName)) {
+            return trimmedName;
+        }
+
+        StringBuilder normalizedName = new StringBuilder(trimmedName.length());
+        boolean isAfterWhitespace = false;
+        for (int i = 0; i < trimmedName.length(); i++) {
+            char c = trimmedName.charAt(i);
+            boolean isWhitespace = StringUtil.isWhitespace(c);
+            if (!isWhitespace) {
+                normalizedName.append(c);
+            } else if (!isAfterWhitespace) {
+                normalizedName.append(' ');
+            }
+            isAfterWhitespace = isWhitespace;
+        }
+        return normalizedName.toString();
+    }
+
+    private static boolean hasWhitespaceToCollapse(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (StringUtil.isWhitespace(c)
+                    && (c != ' ' || (i + 1 < name.length() && StringUtil.isWhitespace(name.charAt(i + 1))))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Checks the same rules as {@link #VALIDATION_REGEX}, in a single pass without a regex.
      */
     public static boolean isValidName(String test) {
-        return !test.trim().isEmpty() && test.matches(VALIDATION_REGEX);
+        boolean hasNonWhitespace = false;
+        for (int i = 0; i < test.length(); ) {
+            int codePoint = test.codePointAt(i);
+            if (Character.isLetter(codePoint) || codePoint == '-' || codePoint == '\'') {
+                hasNonWhitespace = true;
+            } else if (!StringUtil.isWhitespace((char) codePoint) || codePoint > Character.MAX_VALUE) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return hasNonWhitespace;
     }
 
     /**
      * Returns the normalized name for case-insensitive comparison.
      */
     public String getNormalizedName() {
-        return fullName.toLowerCase();
+        return normalizedName;
     }
 
-
     @Override
     public String toString() {
         return fullName;
@@ -72,12 +117,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return getNormalizedName().equals(otherName.getNormalizedName());
+        return normalizedName.equals(otherName.normalizedName);
     }
 
     @Override
     public int hashCode() {
-        return getNormalizedName().hashCode();
+        return normalizedName.hashCode();
     }
 
 }
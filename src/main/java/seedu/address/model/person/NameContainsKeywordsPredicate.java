@@ -1,25 +1,46 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchClause;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * As a {@code SearchClause}, finds the same persons through the name index.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements SearchClause {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if a word of the person's name contains any of the keywords, ignoring case.
+     * A keyword has no whitespace, so it is contained in a word exactly when it is contained in the lowercase name.
+     */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String normalizedName = person.getName().getNormalizedName();
+        return keywords.stream().map(keyword -> keyword.trim().toLowerCase())
+                .anyMatch(keyword -> !keyword.isEmpty() && normalizedName.contains(keyword));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        return index.findByNameKeywords(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.estimateByNameKeywords(keywords);
     }
 
     @Override
@@ -35,10 +35,20 @@ public class Note {
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Returns true if a given string is a valid note.
+     * Checks the same rules as {@link #VALIDATION_REGEX}, in a single pass without a regex.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        if (test.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c <= '\u001F' || c == '\u007F') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchClause;
+
+/**
+ * Tests that a {@code Person}'s {@code Note} contains any of the keywords given, ignoring case.
+ * Notes are not indexed, so as a {@code SearchClause} it looks at every person, and is best combined with a more
+ * selective clause.
+ */
+public class NoteContainsKeywordsPredicate implements SearchClause {
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate that matches the notes containing any of {@code keywords}.
+     */
+    public NoteContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String note = person.getNote().value.toLowerCase();
+        return keywords.stream().map(keyword -> keyword.trim().toLowerCase())
+                .anyMatch(keyword -> !keyword.isEmpty() && note.contains(keyword));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        Set<Person> result = new HashSet<>();
+        for (Person person : index.getPersons()) {
+            if (test(person)) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        NoteContainsKeywordsPredicate otherNoteContainsKeywordsPredicate = (NoteContainsKeywordsPredicate) other;
+        return keywords.equals(otherNoteContainsKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.NotePhrase;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchClause;
+
+/**
+ * Tests that a {@code Person}'s {@code Note} matches any of the phrases given, ignoring case.
+ * As a {@code SearchClause} it is answered from the inverted index over the terms of notes.
+ */
+public class NoteContainsPhrasesPredicate implements SearchClause {
+    private final List<NotePhrase> phrases;
+
+    /**
+     * Creates a predicate that matches the notes matching any of {@code phrases}.
+     */
+    public NoteContainsPhrasesPredicate(List<NotePhrase> phrases) {
+        requireNonNull(phrases);
+        this.phrases = phrases;
+    }
+
+    public List<NotePhrase> getPhrases() {
+        return phrases;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> terms = NotePhrase.getTerms(person.getNote().value);
+        return phrases.stream().anyMatch(phrase -> phrase.matches(terms));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        return index.findByNotePhrases(phrases);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.estimateByNotePhrases(phrases);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsPhrasesPredicate)) {
+            return false;
+        }
+
+        NoteContainsPhrasesPredicate otherNoteContainsPhrasesPredicate = (NoteContainsPhrasesPredicate) other;
+        return phrases.equals(otherNoteContainsPhrasesPredicate.phrases);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phrases", phrases).toString();
+    }
+}
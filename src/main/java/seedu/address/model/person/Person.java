@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -25,7 +24,10 @@ public class Person {
 
     // Data fields
     private final Class studentClass;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    /** Cached hash code, or 0 if it has not been computed yet. Persons are immutable, so it never changes. */
+    private int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -38,7 +40,7 @@ public class Person {
         this.address = address;
         this.studentClass = studentClass;
         this.note = note;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Name getName() {
@@ -67,10 +69,10 @@ public class Person {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The tags are in name order.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -83,8 +85,8 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().getNormalizedName().equals(getName().getNormalizedName())
-                && otherPerson.getPhone().equals(getPhone());
+                && otherPerson.phone.equals(phone)
+                && otherPerson.name.getNormalizedName().equals(name.getNormalizedName());
     }
 
     /**
@@ -114,8 +116,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, studentClass, note, tags);
+        int result = hashCode;
+        if (result == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            result = Objects.hash(name, phone, email, address, studentClass, note, tags);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -14,8 +16,14 @@ public class Phone {
 
     public static final String VALIDATION_REGEX = "^[89]\\d{7}$";
 
+    private static final int DIGIT_COUNT = 8;
+    private static final int INVALID_NUMBER = -1;
+
     public final String value;
 
+    /** The digits of {@code value} as a number, used to compare and hash phones without touching the string. */
+    private final int number;
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -23,24 +31,46 @@ public class Phone {
      */
     public Phone(String phone) {
         requireNonNull(phone);
-        String normalizedPhone = normalizePhone(phone);
-        checkArgument(isValidPhone(normalizedPhone), MESSAGE_CONSTRAINTS);
-        value = normalizedPhone;
+        number = parseNumber(phone);
+        checkArgument(number != INVALID_NUMBER, MESSAGE_CONSTRAINTS);
+        value = phone.length() == DIGIT_COUNT ? phone : Integer.toString(number);
     }
 
     /**
-     * Normalizes the phone number by removing spaces and dashes.
+     * Returns true if a given string is a valid phone number.
      */
-    private static String normalizePhone(String phone) {
-        return phone.replaceAll("[\\s-]", "");
+    public static boolean isValidPhone(String test) {
+        return parseNumber(test) != INVALID_NUMBER;
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns the phone number as an int, which has the same decimal digits as {@link #value}.
      */
-    public static boolean isValidPhone(String test) {
-        String normalized = normalizePhone(test);
-        return normalized.matches(VALIDATION_REGEX);
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the digits of {@code phone} as a number, ignoring whitespace and dashes, or {@code INVALID_NUMBER} if
+     * the digits do not form a number matching {@link #VALIDATION_REGEX}.
+     * Works in a single pass over {@code phone} without creating any objects.
+     */
+    private static int parseNumber(String phone) {
+        int result = 0;
+        int digitCount = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c == '-' || StringUtil.isWhitespace(c)) {
+                continue;
+            }
+            boolean isAllowedDigit = digitCount == 0 ? c == '8' || c == '9' : c >= '0' && c <= '9';
+            if (!isAllowedDigit || digitCount == DIGIT_COUNT) {
+                return INVALID_NUMBER;
+            }
+            result = result * 10 + (c - '0');
+            digitCount++;
+        }
+        return digitCount == DIGIT_COUNT ? result : INVALID_NUMBER;
     }
 
     @Override
@@ -60,12 +90,12 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return number == otherPhone.number;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(number);
     }
 
 }
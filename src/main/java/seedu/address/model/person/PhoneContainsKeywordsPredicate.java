@@ -1,25 +1,71 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchClause;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
+ * As a {@code SearchClause}, finds the same persons through the phone index.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements SearchClause {
+
+    /**
+     * Where a keyword must appear in a phone number.
+     */
+    public enum MatchMode {
+        /** The phone number must start with the keyword. */
+        PREFIX,
+        /** The phone number must contain the keyword anywhere. */
+        SUBSTRING
+    }
+
     private final List<String> keywords;
+    private final MatchMode matchMode;
 
+    /**
+     * Creates a predicate that matches the phone numbers containing any of {@code keywords}.
+     */
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, MatchMode.SUBSTRING);
+    }
+
+    /**
+     * Creates a predicate that matches the phone numbers that match any of {@code keywords} in the given
+     * {@code matchMode}.
+     */
+    public PhoneContainsKeywordsPredicate(List<String> keywords, MatchMode matchMode) {
+        requireAllNonNull(keywords, matchMode);
         this.keywords = keywords;
+        this.matchMode = matchMode;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        String number = person.getPhone().value;
+        return keywords.stream().map(String::trim).filter(keyword -> !keyword.isEmpty())
+                .anyMatch(keyword -> matchMode == MatchMode.PREFIX
+                        ? number.startsWith(keyword)
+                        : number.contains(keyword));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        return matchMode == MatchMode.PREFIX
+                ? index.findByPhonePrefixes(keywords)
+                : index.findByPhoneSubstrings(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return matchMode == MatchMode.PREFIX
+                ? index.estimateByPhonePrefixes(keywords)
+                : index.estimateByPhoneSubstrings(keywords);
     }
 
     @Override
@@ -34,11 +80,12 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         PhoneContainsKeywordsPredicate otherPhoneContainsKeywordsPredicate = (PhoneContainsKeywordsPredicate) other;
-        return keywords.equals(otherPhoneContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherPhoneContainsKeywordsPredicate.keywords)
+                && matchMode == otherPhoneContainsKeywordsPredicate.matchMode;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("matchMode", matchMode).toString();
     }
 }
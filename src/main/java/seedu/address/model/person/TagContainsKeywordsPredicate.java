@@ -1,25 +1,69 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchClause;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
+ * As a {@code SearchClause}, finds the same persons through the tag index.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements SearchClause {
+
+    /**
+     * How a keyword is compared to the name of a tag. Both modes ignore case.
+     */
+    public enum MatchMode {
+        /** The tag name must equal the keyword. */
+        EXACT,
+        /** The tag name must start with the keyword. */
+        PREFIX
+    }
+
     private final List<String> keywords;
+    private final MatchMode matchMode;
 
+    /**
+     * Creates a predicate that matches the tags starting with any of {@code keywords}.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, MatchMode.PREFIX);
+    }
+
+    /**
+     * Creates a predicate that matches the tags that match any of {@code keywords} in the given {@code matchMode}.
+     */
+    public TagContainsKeywordsPredicate(List<String> keywords, MatchMode matchMode) {
+        requireAllNonNull(keywords, matchMode);
         this.keywords = keywords;
+        this.matchMode = matchMode;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsTagIgnoreCase(person.getTags(), keyword));
+        return keywords.stream().anyMatch(keyword -> matchMode == MatchMode.EXACT
+                ? person.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(keyword.trim()))
+                : StringUtil.containsTagIgnoreCase(person.getTags(), keyword));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        return matchMode == MatchMode.EXACT
+                ? index.findByTagNames(keywords)
+                : index.findByTagPrefixes(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return matchMode == MatchMode.EXACT
+                ? index.estimateByTagNames(keywords)
+                : index.estimateByTagPrefixes(keywords);
     }
 
     @Override
@@ -34,12 +78,13 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         TagContainsKeywordsPredicate otherTagContainsKeywordsPredicate = (TagContainsKeywordsPredicate) other;
-        return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherTagContainsKeywordsPredicate.keywords)
+                && matchMode == otherTagContainsKeywordsPredicate.matchMode;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("matchMode", matchMode).toString();
     }
 
 }
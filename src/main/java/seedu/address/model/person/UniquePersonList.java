@@ -3,13 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.PersonSearchIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +22,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered from a hash index keyed on the normalized name and phone of each person, which is
+ * kept in sync with the backing list by every mutating operation. Once it has been requested, the search index is
+ * kept in sync the same way, and is updated before the change is published to listeners of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +35,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Person> identityIndex = new HashMap<>();
+
+    /** Built on first use, and from then on updated before every change to {@code internalList}. */
+    private PersonSearchIndex searchIndex;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -45,7 +57,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
         internalList.add(toAdd);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
     }
 
     /**
@@ -65,7 +81,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        if (searchIndex != null) {
+            searchIndex.remove(target);
+            searchIndex.add(editedPerson);
+        }
         internalList.set(index, editedPerson);
+        identityIndex.remove(new IdentityKey(target));
+        identityIndex.put(new IdentityKey(editedPerson), editedPerson);
     }
 
     /**
@@ -74,27 +96,53 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        if (searchIndex != null) {
+            searchIndex.remove(toRemove);
+        }
+        internalList.remove(index);
+        identityIndex.remove(new IdentityKey(toRemove));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        if (searchIndex != null) {
+            searchIndex.setPersons(replacement.internalList);
+        }
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicate pair if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<IdentityKey, Person> replacementIndex = indexUniquePersons(persons);
 
+        if (searchIndex != null) {
+            searchIndex.setPersons(persons);
+        }
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+    }
+
+    /**
+     * Returns the search index over the persons in this list, which is kept in sync with the list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex(internalList);
+        }
+        return searchIndex;
     }
 
     /**
@@ -135,16 +183,55 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an identity index over {@code persons}, built in a single pass.
+     *
+     * @throws DuplicatePersonException listing every pair of persons in {@code persons} with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<IdentityKey, Person> indexUniquePersons(List<Person> persons) {
+        Map<IdentityKey, Person> index = new HashMap<>();
+        List<Map.Entry<Person, Person>> duplicatePairs = new ArrayList<>();
+        for (Person person : persons) {
+            Person existing = index.putIfAbsent(new IdentityKey(person), person);
+            if (existing != null) {
+                duplicatePairs.add(Map.entry(existing, person));
             }
         }
-        return true;
+
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePairs);
+        }
+        return index;
+    }
+
+    /**
+     * Hash key over the fields compared by {@code Person#isSamePerson(Person)}.
+     */
+    private static final class IdentityKey {
+        private final String normalizedName;
+        private final Phone phone;
+
+        IdentityKey(Person person) {
+            normalizedName = person.getName().getNormalizedName();
+            phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return normalizedName.equals(otherKey.normalizedName) && phone.equals(otherKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * normalizedName.hashCode() + phone.hashCode();
+        }
     }
 }
@@ -1,11 +1,43 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Map.Entry<Person, Person>> duplicatePairs;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicatePairs = List.of();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports each pair of persons sharing an identity.
+     * The key of each pair is the person seen first.
+     */
+    public DuplicatePersonException(List<Map.Entry<Person, Person>> duplicatePairs) {
+        super("Operation would result in duplicate persons: " + duplicatePairs.stream()
+                .map(pair -> describe(pair.getKey()) + " and " + describe(pair.getValue()))
+                .collect(Collectors.joining("; ")));
+        this.duplicatePairs = List.copyOf(duplicatePairs);
+    }
+
+    /**
+     * Returns the pairs of persons sharing an identity, or an empty list if they were not recorded.
+     */
+    public List<Map.Entry<Person, Person>> getDuplicatePairs() {
+        return duplicatePairs;
+    }
+
+    private static String describe(Person person) {
+        return person.getName() + " (" + person.getPhone() + ")";
     }
 }
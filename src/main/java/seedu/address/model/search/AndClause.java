@@ -0,0 +1,128 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons that match every one of its clauses.
+ * <p>
+ * The clauses are evaluated in order of their estimated matches. The persons matching the most selective clause are
+ * looked up in the index, and every other clause only narrows them down further: by removing the persons that fail
+ * the clause, or by intersecting with the clause's own matches when there are fewer of those than persons left.
+ * Negated clauses are applied last, as they can only remove persons. A query therefore costs about as much as its
+ * most selective clause, however many persons the other clauses match.
+ */
+public class AndClause implements SearchClause {
+
+    private final List<SearchClause> clauses;
+
+    /**
+     * Creates a clause that matches the persons matching all of {@code clauses}.
+     */
+    public AndClause(List<SearchClause> clauses) {
+        requireNonNull(clauses);
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return clauses.stream().allMatch(clause -> clause.test(person));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        List<PlannedClause> included = new ArrayList<>();
+        List<PlannedClause> excluded = new ArrayList<>();
+        for (SearchClause clause : clauses) {
+            if (clause instanceof NotClause) {
+                SearchClause negated = ((NotClause) clause).getNegatedClause();
+                excluded.add(new PlannedClause(negated, negated.estimateMatches(index)));
+            } else {
+                included.add(new PlannedClause(clause, clause.estimateMatches(index)));
+            }
+        }
+        included.sort(Comparator.comparingInt(planned -> planned.estimate));
+        excluded.sort(Comparator.comparingInt(planned -> planned.estimate));
+
+        Set<Person> candidates = included.isEmpty()
+                ? new HashSet<>(index.getPersons())
+                : new HashSet<>(included.get(0).clause.evaluate(index));
+        for (int i = 1; i < included.size() && !candidates.isEmpty(); i++) {
+            narrow(candidates, included.get(i), true, index);
+        }
+        for (int i = 0; i < excluded.size() && !candidates.isEmpty(); i++) {
+            narrow(candidates, excluded.get(i), false, index);
+        }
+        return candidates;
+    }
+
+    /**
+     * Keeps only the {@code candidates} that match {@code planned}, or only those that do not when {@code isMatchKept}
+     * is false.
+     */
+    private static void narrow(Set<Person> candidates, PlannedClause planned, boolean isMatchKept,
+            PersonSearchIndex index) {
+        if (planned.estimate < candidates.size()) {
+            Set<Person> matches = planned.clause.evaluate(index);
+            if (isMatchKept) {
+                candidates.retainAll(matches);
+            } else {
+                candidates.removeAll(matches);
+            }
+            return;
+        }
+        candidates.removeIf(person -> planned.clause.test(person) != isMatchKept);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        int estimate = index.size();
+        for (SearchClause clause : clauses) {
+            if (!(clause instanceof NotClause)) {
+                estimate = Math.min(estimate, clause.estimateMatches(index));
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndClause)) {
+            return false;
+        }
+
+        AndClause otherAndClause = (AndClause) other;
+        return clauses.equals(otherAndClause.clauses);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+
+    /**
+     * A clause with its estimated matches, which is computed once per evaluation.
+     */
+    private static class PlannedClause {
+        private final SearchClause clause;
+        private final int estimate;
+
+        PlannedClause(SearchClause clause, int estimate) {
+            this.clause = clause;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Person;
+
+/**
+ * Partitions persons by their class, so that the persons in a class can be found without looking at every person.
+ */
+class ClassIndex {
+
+    private final Map<Class, Set<Person>> personsByClass = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the partition of its class.
+     */
+    void add(Person person) {
+        personsByClass.computeIfAbsent(person.getStudentClass(), unused -> new HashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the partition of its class.
+     */
+    void remove(Person person) {
+        Set<Person> persons = personsByClass.get(person.getStudentClass());
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByClass.remove(person.getStudentClass());
+        }
+    }
+
+    void clear() {
+        personsByClass.clear();
+    }
+
+    /**
+     * Returns the number of persons in {@code studentClass}.
+     */
+    int countPersonsIn(Class studentClass) {
+        Set<Person> persons = personsByClass.get(studentClass);
+        return persons == null ? 0 : persons.size();
+    }
+
+    /**
+     * Returns the persons in {@code studentClass}, as an unmodifiable view of the partition.
+     */
+    Set<Person> getPersonsIn(Class studentClass) {
+        Set<Person> persons = personsByClass.get(studentClass);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by the words of their names, so that the words within a small edit distance of a misspelled
+ * keyword can be found without comparing the keyword to every word.
+ * The distinct lowercase words are kept in a BK-tree under the Levenshtein distance. The distance from a keyword to
+ * a word bounds the distances to the words below it, so a lookup within {@code maxDistance} only descends into the
+ * children whose distance to their parent is within {@code maxDistance} of the distance from keyword to parent.
+ * Words are never removed from the tree; a word that no person has any more is skipped by lookups, and reused if a
+ * person with that word is added again.
+ */
+class FuzzyWordIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private Node root;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                personsByWord.put(word, persons);
+                insert(word);
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons != null) {
+                persons.remove(person);
+            }
+        }
+    }
+
+    void clear() {
+        personsByWord.clear();
+        root = null;
+    }
+
+    /**
+     * Adds to {@code result} each word within {@code maxDistance} edits of {@code keyword} that some person has,
+     * mapped to its distance from {@code keyword}. {@code keyword} must be in lowercase.
+     */
+    void collectWordsWithin(String keyword, int maxDistance, Map<String, Integer> result) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = getDistance(keyword, node.word);
+            if (distance <= maxDistance && !personsByWord.get(node.word).isEmpty()) {
+                result.put(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the persons with {@code word} in their names, as an unmodifiable view.
+     */
+    Set<Person> getPersonsWithWord(String word) {
+        Set<Person> persons = personsByWord.get(word);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    private void insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = getDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of characters
+     * to insert, delete or substitute to turn one into the other.
+     */
+    static int getDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + substitutionCost,
+                        Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static Set<String> getWords(Person person) {
+        String name = person.getName().getNormalizedName();
+        return name.isEmpty() ? Collections.emptySet() : new HashSet<>(Arrays.asList(name.split(" ")));
+    }
+
+    /**
+     * A word in the BK-tree, with its children keyed by their distance to the word.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons whose names have a word containing any of a list of keywords, for keywords that are typed one
+ * character at a time.
+ * If every keyword contains the keyword at the same position of the previous search, as when a character is added
+ * to a keyword, no person can match who did not match before. Such a search checks the previous matches instead of
+ * looking the keywords up in the index again, when there are fewer previous matches than the index estimates for
+ * the keywords. The previous matches are only reused while the index is unchanged.
+ * Not safe for use by several threads at once.
+ */
+public class IncrementalNameSearch {
+
+    private List<String> lastKeywords = Collections.emptyList();
+    private Set<Person> lastMatches = Collections.emptySet();
+    private PersonSearchIndex lastIndex;
+    private long lastVersion;
+
+    /**
+     * Returns the persons in {@code index} whose names have a word containing any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> search(List<String> keywords, PersonSearchIndex index) {
+        requireAllNonNull(keywords, index);
+        List<String> preppedKeywords = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (!preppedKeyword.isEmpty()) {
+                preppedKeywords.add(preppedKeyword);
+            }
+        }
+
+        Set<Person> matches;
+        if (canNarrowLastMatches(preppedKeywords, index)) {
+            matches = new HashSet<>();
+            for (Person person : lastMatches) {
+                if (hasNameContainingAny(person, preppedKeywords)) {
+                    matches.add(person);
+                }
+            }
+        } else {
+            matches = index.findByNameKeywords(preppedKeywords);
+        }
+
+        lastKeywords = preppedKeywords;
+        lastMatches = Collections.unmodifiableSet(matches);
+        lastIndex = index;
+        lastVersion = index.getVersion();
+        return lastMatches;
+    }
+
+    /**
+     * Returns true if the matches for {@code keywords} are among the last matches, and checking the last matches is
+     * expected to be cheaper than looking the keywords up in {@code index}.
+     */
+    private boolean canNarrowLastMatches(List<String> keywords, PersonSearchIndex index) {
+        return index == lastIndex && index.getVersion() == lastVersion && isRefinementOfLastKeywords(keywords)
+                && lastMatches.size() < index.estimateByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns true if each of {@code keywords} contains the keyword at the same position of the last search, so
+     * that the persons they match are among the last matches.
+     */
+    private boolean isRefinementOfLastKeywords(List<String> keywords) {
+        if (keywords.isEmpty() || keywords.size() != lastKeywords.size()) {
+            return false;
+        }
+        for (int i = 0; i < keywords.size(); i++) {
+            if (!keywords.get(i).contains(lastKeywords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the name of {@code person} contains any of {@code keywords}. The keywords have no whitespace,
+     * so a keyword is contained in a word of the name exactly when it is contained in the lowercase name.
+     */
+    private static boolean hasNameContainingAny(Person person, List<String> keywords) {
+        String normalizedName = person.getName().getNormalizedName();
+        for (String keyword : keywords) {
+            if (normalizedName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by the words of their names, so that the persons whose name has a word containing a keyword can
+ * be found without looking at every person.
+ * Every suffix of every lowercase word is indexed. A word contains a keyword exactly when one of its suffixes starts
+ * with the keyword, so a lookup is a single range scan over the sorted suffixes.
+ */
+class NameTokenIndex {
+
+    private final NavigableMap<String, Set<Person>> personsBySuffix = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        for (String word : getWords(person)) {
+            for (int start = 0; start < word.length(); start++) {
+                personsBySuffix.computeIfAbsent(word.substring(start), unused -> new HashSet<>()).add(person);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (String word : getWords(person)) {
+            for (int start = 0; start < word.length(); start++) {
+                String suffix = word.substring(start);
+                Set<Person> persons = personsBySuffix.get(suffix);
+                if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                    personsBySuffix.remove(suffix);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        personsBySuffix.clear();
+    }
+
+    /**
+     * Adds to {@code result} the persons whose name has a word containing {@code keyword}, ignoring case.
+     */
+    void collectPersonsWithWordContaining(String keyword, Set<Person> result) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<Person>> matchingSuffixes =
+                personsBySuffix.subMap(preppedKeyword, true, preppedKeyword + Character.MAX_VALUE, true);
+        for (Set<Person> persons : matchingSuffixes.values()) {
+            result.addAll(persons);
+        }
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name has a word containing {@code keyword}, ignoring
+     * case, that is no greater than {@code limit}.
+     * Stops counting once {@code limit} is reached, so it takes at most as long as collecting those persons.
+     */
+    int estimatePersonsWithWordContaining(String keyword, int limit) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Set<Person>> matchingSuffixes =
+                personsBySuffix.subMap(preppedKeyword, true, preppedKeyword + Character.MAX_VALUE, true);
+        int estimate = 0;
+        for (Set<Person> persons : matchingSuffixes.values()) {
+            estimate += persons.size();
+            if (estimate >= limit) {
+                return limit;
+            }
+        }
+        return estimate;
+    }
+
+    private static Set<String> getWords(Person person) {
+        String name = person.getName().fullName.toLowerCase().trim();
+        if (name.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(Arrays.asList(name.split("\\s+")));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons that do not match its clause.
+ * On its own it has to look at every person, but as part of an {@code AndClause} it only removes persons from the
+ * matches of the other clauses.
+ */
+public class NotClause implements SearchClause {
+
+    private final SearchClause negatedClause;
+
+    /**
+     * Creates a clause that matches the persons not matching {@code negatedClause}.
+     */
+    public NotClause(SearchClause negatedClause) {
+        requireNonNull(negatedClause);
+        this.negatedClause = negatedClause;
+    }
+
+    public SearchClause getNegatedClause() {
+        return negatedClause;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !negatedClause.test(person);
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        Set<Person> result = new HashSet<>(index.getPersons());
+        result.removeAll(negatedClause.evaluate(index));
+        return result;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotClause)) {
+            return false;
+        }
+
+        NotClause otherNotClause = (NotClause) other;
+        return negatedClause.equals(otherNotClause.negatedClause);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("negatedClause", negatedClause).toString();
+    }
+}
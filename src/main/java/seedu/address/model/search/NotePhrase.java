@@ -0,0 +1,185 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sequence of words to look for in the notes of persons, in which the last word may be only the start of a word.
+ * <p>
+ * Notes are split into terms, which are the lowercase runs of letters and digits in the note. A phrase matches a
+ * note if its words are consecutive terms of the note, where the last word only has to be the start of its term if
+ * the phrase is a prefix phrase.
+ * Guarantees: immutable; has at least one word.
+ */
+public class NotePhrase {
+
+    public static final String MESSAGE_CONSTRAINTS = "Note phrases should contain at least one letter or digit";
+
+    private final List<String> words;
+    private final boolean isPrefix;
+
+    /**
+     * Creates a phrase of the terms of {@code text}.
+     *
+     * @param isPrefix whether the last term only has to be the start of a term of a note.
+     * @throws IllegalArgumentException if {@code text} has no terms.
+     */
+    public NotePhrase(String text, boolean isPrefix) {
+        requireNonNull(text);
+        words = List.copyOf(getTerms(text));
+        checkArgument(!words.isEmpty(), MESSAGE_CONSTRAINTS);
+        this.isPrefix = isPrefix;
+    }
+
+    /**
+     * Returns true if {@code text} has at least one term, so that it can be made into a phrase.
+     */
+    public static boolean isValidPhrase(String text) {
+        return getTermSpans(text).length > 0;
+    }
+
+    /**
+     * Returns the terms of {@code text}, in order.
+     */
+    public static List<String> getTerms(String text) {
+        return getTerms(text, getTermSpans(text));
+    }
+
+    private static List<String> getTerms(String text, int[] spans) {
+        List<String> terms = new ArrayList<>(spans.length / 2);
+        for (int i = 0; i < spans.length; i += 2) {
+            terms.add(text.substring(spans[i], spans[i + 1]).toLowerCase());
+        }
+        return terms;
+    }
+
+    /**
+     * Returns where the terms of {@code text} are, as the start and end index of each term in turn.
+     */
+    private static int[] getTermSpans(String text) {
+        int[] spans = new int[8];
+        int length = 0;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermCharacter && start < 0) {
+                start = i;
+            } else if (!isTermCharacter && start >= 0) {
+                if (length + 2 > spans.length) {
+                    spans = Arrays.copyOf(spans, spans.length * 2);
+                }
+                spans[length++] = start;
+                spans[length++] = i;
+                start = -1;
+            }
+        }
+        return Arrays.copyOf(spans, length);
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public boolean isPrefix() {
+        return isPrefix;
+    }
+
+    /**
+     * Returns true if the words of this phrase are the terms of {@code terms} from index {@code start} onwards.
+     */
+    boolean matchesAt(List<String> terms, int start) {
+        if (start < 0 || start + words.size() > terms.size()) {
+            return false;
+        }
+        int last = words.size() - 1;
+        for (int i = 0; i < last; i++) {
+            if (!terms.get(start + i).equals(words.get(i))) {
+                return false;
+            }
+        }
+        String lastTerm = terms.get(start + last);
+        return isPrefix ? lastTerm.startsWith(words.get(last)) : lastTerm.equals(words.get(last));
+    }
+
+    /**
+     * Returns true if this phrase matches a note with the given {@code terms}.
+     */
+    public boolean matches(List<String> terms) {
+        requireNonNull(terms);
+        for (int start = 0; start + words.size() <= terms.size(); start++) {
+            if (matchesAt(terms, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the parts of {@code text} that any of {@code phrases} match, so that they can be highlighted.
+     * Each part is an array of its start and end index. The parts are in order, and overlapping matches are
+     * merged into one part.
+     */
+    public static List<int[]> findMatchingSpans(String text, Collection<NotePhrase> phrases) {
+        requireAllNonNull(text, phrases);
+        int[] spans = getTermSpans(text);
+        List<String> terms = getTerms(text, spans);
+        List<int[]> matches = new ArrayList<>();
+        for (NotePhrase phrase : phrases) {
+            for (int start = 0; start + phrase.words.size() <= terms.size(); start++) {
+                if (phrase.matchesAt(terms, start)) {
+                    int end = start + phrase.words.size() - 1;
+                    matches.add(new int[] {spans[2 * start], spans[2 * end + 1]});
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(match -> match[0]));
+
+        List<int[]> merged = new ArrayList<>();
+        for (int[] match : matches) {
+            int[] previous = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (previous != null && match[0] <= previous[1]) {
+                previous[1] = Math.max(previous[1], match[1]);
+            } else {
+                merged.add(match);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotePhrase)) {
+            return false;
+        }
+
+        NotePhrase otherPhrase = (NotePhrase) other;
+        return words.equals(otherPhrase.words) && isPrefix == otherPhrase.isPrefix;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * words.hashCode() + Boolean.hashCode(isPrefix);
+    }
+
+    /**
+     * Returns the phrase as it is written in a {@code find-note} command.
+     */
+    @Override
+    public String toString() {
+        String text = String.join(" ", words);
+        String quoted = words.size() == 1 ? text : '"' + text + '"';
+        return isPrefix ? quoted + '*' : quoted;
+    }
+}
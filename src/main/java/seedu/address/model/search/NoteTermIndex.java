@@ -0,0 +1,143 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index over the terms of the notes of persons, so that the persons whose notes match a
+ * {@code NotePhrase} can be found without looking at every note.
+ * For each term, the index records where in each note the term is. A phrase is looked up by its rarest whole word,
+ * and each note that has that word is checked for the rest of the phrase around it. The terms are kept sorted, so the
+ * terms starting with a prefix are a single range of the index.
+ * Adding or removing a person only touches the terms of that person's note.
+ */
+class NoteTermIndex {
+
+    /** For each term, the persons whose note has it, with the positions of the term in that note in ascending order. */
+    private final NavigableMap<String, Map<Person, int[]>> positionsByTerm = new TreeMap<>();
+    /** The terms of the note of each indexed person with a non-empty note. */
+    private final Map<Person, List<String>> termsByPerson = new HashMap<>();
+
+    /**
+     * Adds the terms of the note of {@code person} to the index.
+     */
+    void add(Person person) {
+        List<String> terms = NotePhrase.getTerms(person.getNote().value);
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        Map<String, int[]> positionsInNote = new HashMap<>();
+        for (int position = 0; position < terms.size(); position++) {
+            positionsInNote.merge(terms.get(position), new int[] {position}, NoteTermIndex::append);
+        }
+        for (Map.Entry<String, int[]> entry : positionsInNote.entrySet()) {
+            positionsByTerm.computeIfAbsent(entry.getKey(), unused -> new HashMap<>())
+                    .put(person, entry.getValue());
+        }
+        termsByPerson.put(person, terms);
+    }
+
+    /**
+     * Removes the terms of the note of {@code person} from the index.
+     */
+    void remove(Person person) {
+        List<String> terms = termsByPerson.remove(person);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            Map<Person, int[]> positions = positionsByTerm.get(term);
+            if (positions != null && positions.remove(person) != null && positions.isEmpty()) {
+                positionsByTerm.remove(term);
+            }
+        }
+    }
+
+    void clear() {
+        positionsByTerm.clear();
+        termsByPerson.clear();
+    }
+
+    /**
+     * Adds the persons whose notes match {@code phrase} to {@code result}.
+     */
+    void collectPersonsMatching(NotePhrase phrase, Set<Person> result) {
+        List<String> words = phrase.getWords();
+        int wholeWordCount = phrase.isPrefix() ? words.size() - 1 : words.size();
+        if (wholeWordCount == 0) {
+            for (Map<Person, int[]> positions : getTermsStartingWith(words.get(0)).values()) {
+                result.addAll(positions.keySet());
+            }
+            return;
+        }
+
+        int rarestWord = 0;
+        Map<Person, int[]> rarestWordPositions = null;
+        for (int i = 0; i < wholeWordCount; i++) {
+            Map<Person, int[]> positions = positionsByTerm.get(words.get(i));
+            if (positions == null) {
+                return;
+            }
+            if (rarestWordPositions == null || positions.size() < rarestWordPositions.size()) {
+                rarestWord = i;
+                rarestWordPositions = positions;
+            }
+        }
+
+        if (words.size() == 1) {
+            result.addAll(rarestWordPositions.keySet());
+            return;
+        }
+        for (Map.Entry<Person, int[]> entry : rarestWordPositions.entrySet()) {
+            List<String> terms = termsByPerson.get(entry.getKey());
+            for (int position : entry.getValue()) {
+                if (phrase.matchesAt(terms, position - rarestWord)) {
+                    result.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose notes match {@code phrase}.
+     * A phrase with a whole word matches at most the persons with its rarest whole word.
+     */
+    int estimatePersonsMatching(NotePhrase phrase) {
+        List<String> words = phrase.getWords();
+        int wholeWordCount = phrase.isPrefix() ? words.size() - 1 : words.size();
+        if (wholeWordCount == 0) {
+            int estimate = 0;
+            for (Map<Person, int[]> positions : getTermsStartingWith(words.get(0)).values()) {
+                estimate += positions.size();
+            }
+            return estimate;
+        }
+
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < wholeWordCount; i++) {
+            Map<Person, int[]> positions = positionsByTerm.get(words.get(i));
+            estimate = Math.min(estimate, positions == null ? 0 : positions.size());
+        }
+        return estimate;
+    }
+
+    private NavigableMap<String, Map<Person, int[]>> getTermsStartingWith(String prefix) {
+        return positionsByTerm.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private static int[] append(int[] positions, int[] newPositions) {
+        int[] merged = Arrays.copyOf(positions, positions.length + newPositions.length);
+        System.arraycopy(newPositions, 0, merged, positions.length, newPositions.length);
+        return merged;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons that match any of its clauses.
+ */
+public class OrClause implements SearchClause {
+
+    private final List<SearchClause> clauses;
+
+    /**
+     * Creates a clause that matches the persons matching any of {@code clauses}.
+     */
+    public OrClause(List<SearchClause> clauses) {
+        requireNonNull(clauses);
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return clauses.stream().anyMatch(clause -> clause.test(person));
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        Set<Person> result = new HashSet<>();
+        for (SearchClause clause : clauses) {
+            result.addAll(clause.evaluate(index));
+        }
+        return result;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        long estimate = 0;
+        for (SearchClause clause : clauses) {
+            estimate += clause.estimateMatches(index);
+        }
+        return (int) Math.min(estimate, index.size());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrClause)) {
+            return false;
+        }
+
+        OrClause otherOrClause = (OrClause) other;
+        return clauses.equals(otherOrClause.clauses);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
@@ -0,0 +1,491 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes over the persons of an address book that answer searches without looking at every person.
+ * The owner of the persons must keep the index in sync by reporting every person that is added or removed,
+ * before the change becomes visible in the person list.
+ * Each kind of search also has an estimate of how many persons it matches, which is cheaper than the search itself
+ * and lets a {@code SearchClause} that combines searches start from the most selective one.
+ */
+public class PersonSearchIndex {
+
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final FuzzyWordIndex fuzzyNameIndex = new FuzzyWordIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final PhoneDigitTrie phoneIndex = new PhoneDigitTrie();
+    private final ClassIndex classIndex = new ClassIndex();
+    private final NoteTermIndex noteIndex = new NoteTermIndex();
+    private final Set<Person> persons = new HashSet<>();
+    private long version;
+
+    /**
+     * Creates an index over {@code persons}.
+     */
+    public PersonSearchIndex(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        nameIndex.add(person);
+        fuzzyNameIndex.add(person);
+        tagIndex.add(person);
+        phoneIndex.add(person);
+        classIndex.add(person);
+        noteIndex.add(person);
+        persons.add(person);
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        nameIndex.remove(person);
+        fuzzyNameIndex.remove(person);
+        tagIndex.remove(person);
+        phoneIndex.remove(person);
+        classIndex.remove(person);
+        noteIndex.remove(person);
+        persons.remove(person);
+        version++;
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setPersons(Collection<Person> replacement) {
+        requireNonNull(replacement);
+        nameIndex.clear();
+        fuzzyNameIndex.clear();
+        tagIndex.clear();
+        phoneIndex.clear();
+        classIndex.clear();
+        noteIndex.clear();
+        persons.clear();
+        for (Person person : replacement) {
+            nameIndex.add(person);
+            fuzzyNameIndex.add(person);
+            tagIndex.add(person);
+            phoneIndex.add(person);
+            classIndex.add(person);
+            noteIndex.add(person);
+            persons.add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed persons change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns every indexed person, as an unmodifiable view that is only valid until the indexed persons next change.
+     */
+    public Set<Person> getPersons() {
+        return Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons whose name has a word containing any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = new HashSet<>();
+        for (String keyword : keywords) {
+            nameIndex.collectPersonsWithWordContaining(keyword, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByNameKeywords(Collection)} returns.
+     */
+    public int estimateByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += nameIndex.estimatePersonsWithWordContaining(keyword, size() - estimate);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns up to {@code limit} persons accepted by {@code filter} whose names are most similar to {@code name},
+     * most similar first.
+     * <p>
+     * Each word of {@code name} matches a word of a person's name that contains it, or else is within a few edits
+     * of it: one edit for words of three to five letters, and two edits for longer words. Persons whose full name
+     * equals {@code name}, ignoring case, come first. The others are ranked by how many words of {@code name} they
+     * match, then by the edits needed to match those words, then by name. Only the persons with a matching word are
+     * looked at, and they are ranked through a heap that holds at most {@code limit} persons.
+     */
+    public List<Person> findBySimilarName(String name, int limit, Predicate<Person> filter) {
+        requireNonNull(name);
+        requireNonNull(filter);
+        String normalizedName = normalizeSearchedName(name);
+        if (normalizedName.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Person, SimilarNameMatch> matches = new HashMap<>();
+        for (String keyword : normalizedName.split(" ")) {
+            collectSimilarNameMatches(keyword, filter, matches);
+        }
+
+        SimilarNameRanking ranking = new SimilarNameRanking(normalizedName, limit);
+        matches.values().forEach(ranking::offer);
+        return ranking.getRankedPersons();
+    }
+
+    /**
+     * Returns up to {@code limit} of {@code persons} whose names are most similar to {@code name}, most similar
+     * first, ranked as by {@link #findBySimilarName(String, int, Predicate)}.
+     * Looks at the name of every person instead of an index, for persons that are not indexed. Only the persons that
+     * are ranked so far are kept while looking.
+     */
+    public static List<Person> scanBySimilarName(Iterable<Person> persons, String name, int limit) {
+        requireNonNull(persons);
+        requireNonNull(name);
+        String normalizedName = normalizeSearchedName(name);
+        if (normalizedName.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        String[] keywords = normalizedName.split(" ");
+        SimilarNameRanking ranking = new SimilarNameRanking(normalizedName, limit);
+        for (Person person : persons) {
+            String[] words = person.getName().getNormalizedName().split(" ");
+            SimilarNameMatch match = null;
+            for (String keyword : keywords) {
+                int edits = getEditsToMatch(keyword, words);
+                if (edits >= 0) {
+                    if (match == null) {
+                        match = new SimilarNameMatch(person);
+                    }
+                    match.addKeywordMatch(edits);
+                }
+            }
+            if (match != null) {
+                ranking.offer(match);
+            }
+        }
+        return ranking.getRankedPersons();
+    }
+
+    private static String normalizeSearchedName(String name) {
+        return String.join(" ", name.trim().toLowerCase().split("\\s+"));
+    }
+
+    /**
+     * Returns the fewest edits needed for {@code keyword} to match one of {@code words}, or -1 if it matches none.
+     * A word that contains the keyword needs no edits.
+     */
+    private static int getEditsToMatch(String keyword, String[] words) {
+        int maxEdits = getMaxEdits(keyword);
+        int fewestEdits = -1;
+        for (String word : words) {
+            if (word.contains(keyword)) {
+                return 0;
+            }
+            // the distance is at least the difference in length, so most words need not be compared
+            if (Math.abs(word.length() - keyword.length()) > maxEdits) {
+                continue;
+            }
+            int edits = FuzzyWordIndex.getDistance(keyword, word);
+            if (edits <= maxEdits && (fewestEdits < 0 || edits < fewestEdits)) {
+                fewestEdits = edits;
+            }
+        }
+        return fewestEdits;
+    }
+
+    /**
+     * Records in {@code matches} the persons accepted by {@code filter} whose names match {@code keyword}, with the
+     * fewest edits they need to match it.
+     */
+    private void collectSimilarNameMatches(String keyword, Predicate<Person> filter,
+            Map<Person, SimilarNameMatch> matches) {
+        Map<Person, Integer> distances = new HashMap<>();
+
+        Map<String, Integer> similarWords = new HashMap<>();
+        fuzzyNameIndex.collectWordsWithin(keyword, getMaxEdits(keyword), similarWords);
+        for (Map.Entry<String, Integer> similarWord : similarWords.entrySet()) {
+            for (Person person : fuzzyNameIndex.getPersonsWithWord(similarWord.getKey())) {
+                distances.merge(person, similarWord.getValue(), Math::min);
+            }
+        }
+
+        Set<Person> containingPersons = new HashSet<>();
+        nameIndex.collectPersonsWithWordContaining(keyword, containingPersons);
+        for (Person person : containingPersons) {
+            distances.put(person, 0);
+        }
+
+        for (Map.Entry<Person, Integer> distance : distances.entrySet()) {
+            Person person = distance.getKey();
+            if (filter.test(person)) {
+                matches.computeIfAbsent(person, SimilarNameMatch::new)
+                        .addKeywordMatch(distance.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the most edits allowed between {@code keyword} and a word it matches. Short keywords allow fewer
+     * edits, as every short word is only a few edits away from many others.
+     */
+    private static int getMaxEdits(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the persons with a tag named any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByTagNames(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = new HashSet<>();
+        for (String keyword : keywords) {
+            tagIndex.collectPersonsWithTagNamed(keyword, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons with a tag whose name starts with any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByTagPrefixes(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = new HashSet<>();
+        for (String keyword : keywords) {
+            tagIndex.collectPersonsWithTagStartingWith(keyword, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByTagNames(Collection)} returns.
+     */
+    public int estimateByTagNames(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += tagIndex.estimatePersonsWithTagNamed(keyword);
+        }
+        return Math.min(estimate, size());
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByTagPrefixes(Collection)} returns.
+     */
+    public int estimateByTagPrefixes(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += tagIndex.estimatePersonsWithTagStartingWith(keyword);
+        }
+        return Math.min(estimate, size());
+    }
+
+    /**
+     * Returns the persons whose phone number contains any of {@code keywords}.
+     */
+    public Set<Person> findByPhoneSubstrings(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = new HashSet<>();
+        for (String keyword : keywords) {
+            phoneIndex.collectPersonsWithNumberContaining(keyword.trim(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons whose phone number starts with any of {@code keywords}.
+     */
+    public Set<Person> findByPhonePrefixes(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = new HashSet<>();
+        for (String keyword : keywords) {
+            phoneIndex.collectPersonsWithNumberStartingWith(keyword.trim(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByPhoneSubstrings(Collection)} returns.
+     */
+    public int estimateByPhoneSubstrings(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += phoneIndex.estimatePersonsWithNumberContaining(keyword.trim());
+        }
+        return Math.min(estimate, size());
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByPhonePrefixes(Collection)} returns.
+     */
+    public int estimateByPhonePrefixes(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += phoneIndex.countPersonsWithNumberStartingWith(keyword.trim());
+        }
+        return Math.min(estimate, size());
+    }
+
+    /**
+     * Returns the persons in any of {@code classes}.
+     * Takes time proportional to the number of persons in those classes. The result may be a view of the index,
+     * so it is only valid until the indexed persons next change.
+     */
+    public Set<Person> findByClasses(Collection<Class> classes) {
+        requireNonNull(classes);
+        if (classes.size() == 1) {
+            return classIndex.getPersonsIn(classes.iterator().next());
+        }
+
+        Set<Person> result = new HashSet<>();
+        for (Class studentClass : classes) {
+            result.addAll(classIndex.getPersonsIn(studentClass));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByClasses(Collection)} returns.
+     */
+    public int estimateByClasses(Collection<Class> classes) {
+        requireNonNull(classes);
+        int estimate = 0;
+        for (Class studentClass : classes) {
+            estimate += classIndex.countPersonsIn(studentClass);
+        }
+        return Math.min(estimate, size());
+    }
+
+    /**
+     * Returns the persons whose notes match any of {@code phrases}.
+     */
+    public Set<Person> findByNotePhrases(Collection<NotePhrase> phrases) {
+        requireNonNull(phrases);
+        Set<Person> result = new HashSet<>();
+        for (NotePhrase phrase : phrases) {
+            noteIndex.collectPersonsMatching(phrase, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findByNotePhrases(Collection)} returns.
+     */
+    public int estimateByNotePhrases(Collection<NotePhrase> phrases) {
+        requireNonNull(phrases);
+        int estimate = 0;
+        for (NotePhrase phrase : phrases) {
+            estimate = Math.min(estimate + noteIndex.estimatePersonsMatching(phrase), size());
+        }
+        return estimate;
+    }
+
+    /**
+     * Keeps the matches that are most similar to a name being searched for in a heap that holds at most
+     * {@code limit} of them.
+     */
+    private static class SimilarNameRanking {
+        private final Comparator<SimilarNameMatch> bestFirst;
+        private final PriorityQueue<SimilarNameMatch> best;
+        private final int limit;
+
+        SimilarNameRanking(String normalizedName, int limit) {
+            this.limit = limit;
+            bestFirst = SimilarNameMatch.comparator(normalizedName);
+            best = new PriorityQueue<>(limit + 1, bestFirst.reversed());
+        }
+
+        void offer(SimilarNameMatch match) {
+            best.add(match);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Person> getRankedPersons() {
+            List<SimilarNameMatch> ranked = new ArrayList<>(best);
+            ranked.sort(bestFirst);
+            List<Person> result = new ArrayList<>(ranked.size());
+            for (SimilarNameMatch match : ranked) {
+                result.add(match.person);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * How closely the name of a person matches the words of a name being searched for.
+     */
+    private static class SimilarNameMatch {
+        private final Person person;
+        private int matchedKeywordCount;
+        private int totalEdits;
+
+        SimilarNameMatch(Person person) {
+            this.person = person;
+        }
+
+        void addKeywordMatch(int edits) {
+            matchedKeywordCount++;
+            totalEdits += edits;
+        }
+
+        /**
+         * Returns a comparator that orders matches from the most to the least similar to {@code normalizedName}.
+         */
+        static Comparator<SimilarNameMatch> comparator(String normalizedName) {
+            Comparator<SimilarNameMatch> byExactName = Comparator.comparing(
+                    match -> !match.person.getName().getNormalizedName().equals(normalizedName));
+            return byExactName
+                    .thenComparing(Comparator.comparingInt((SimilarNameMatch match) -> match.matchedKeywordCount)
+                            .reversed())
+                    .thenComparingInt(match -> match.totalEdits)
+                    .thenComparing(match -> match.person.getName().getNormalizedName())
+                    .thenComparingInt(match -> match.person.getPhone().getNumber());
+        }
+    }
+}
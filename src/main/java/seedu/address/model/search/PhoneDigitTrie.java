@@ -0,0 +1,311 @@
+package seedu.address.model.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons by the digits of their phone numbers, so that the persons whose number starts with or contains a
+ * partial number can be found without looking at every person.
+ * Every suffix of every number is inserted into a trie with one branch per digit. A number contains a partial number
+ * exactly when one of its suffixes starts with it, so a lookup walks down the partial number and collects the
+ * numbers ending below that node. Only the suffixes that are whole numbers are collected for a prefix lookup.
+ * <p>
+ * As most nodes are only reached by the suffixes of one or two numbers, nodes are kept small: each node links to its
+ * first child and next sibling instead of holding an array with a slot for every digit, and refers to the owners of
+ * its suffix by {@code int} ids in a sorted array instead of a set of persons.
+ */
+class PhoneDigitTrie {
+
+    private static final int RADIX = 10;
+    private static final int[] NO_OWNERS = new int[0];
+
+    private final Node root = new Node((byte) -1);
+
+    /** The indexed persons by id. The ids of removed persons are reused. */
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<Person, Integer> idsByPerson = new HashMap<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        if (idsByPerson.containsKey(person)) {
+            return;
+        }
+        int id = allocateId(person);
+
+        int[] number = toDigits(person.getPhone().getNumber());
+        for (int start = 0; start < number.length; start++) {
+            Node[] path = new Node[number.length - start + 1];
+            path[0] = root;
+            for (int i = start; i < number.length; i++) {
+                path[i - start + 1] = path[i - start].getOrCreateChild(number[i]);
+            }
+            path[path.length - 1].addOwner(toOwner(id, start == 0));
+            updateCounts(path, start == 0, 1);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        Integer id = idsByPerson.remove(person);
+        if (id == null) {
+            return;
+        }
+        persons.set(id, null);
+        freeIds.push(id);
+
+        int[] number = toDigits(person.getPhone().getNumber());
+        for (int start = 0; start < number.length; start++) {
+            removeSuffix(id, number, start);
+        }
+    }
+
+    private int allocateId(Person person) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = persons.size();
+            persons.add(person);
+        } else {
+            id = freeIds.pop();
+            persons.set(id, person);
+        }
+        idsByPerson.put(person, id);
+        return id;
+    }
+
+    private void removeSuffix(int id, int[] number, int start) {
+        Node[] path = new Node[number.length - start + 1];
+        path[0] = root;
+        for (int i = start; i < number.length; i++) {
+            Node child = path[i - start].getChild(number[i]);
+            if (child == null) {
+                return;
+            }
+            path[i - start + 1] = child;
+        }
+
+        if (path[path.length - 1].removeOwner(toOwner(id, start == 0))) {
+            updateCounts(path, start == 0, -1);
+        }
+        for (int depth = path.length - 1; depth > 0 && path[depth].ownerCount == 0; depth--) {
+            path[depth - 1].removeChild(path[depth]);
+        }
+    }
+
+    private static void updateCounts(Node[] path, boolean isWholeNumber, int delta) {
+        for (Node node : path) {
+            node.ownerCount += delta;
+            if (isWholeNumber) {
+                node.numberOwnerCount += delta;
+            }
+        }
+    }
+
+    void clear() {
+        root.clear();
+        persons.clear();
+        idsByPerson.clear();
+        freeIds.clear();
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose phone number contains {@code digits}.
+     * Takes time proportional to the length of {@code digits}.
+     */
+    int estimatePersonsWithNumberContaining(String digits) {
+        Node node = find(digits);
+        return node == null ? 0 : node.ownerCount;
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code digits}.
+     * Takes time proportional to the length of {@code digits}.
+     */
+    int countPersonsWithNumberStartingWith(String digits) {
+        Node node = find(digits);
+        return node == null ? 0 : node.numberOwnerCount;
+    }
+
+    /**
+     * Adds to {@code result} the persons whose phone number contains {@code digits}.
+     */
+    void collectPersonsWithNumberContaining(String digits, Set<Person> result) {
+        Node node = find(digits);
+        if (node != null) {
+            collectOwners(node, false, result);
+        }
+    }
+
+    /**
+     * Adds to {@code result} the persons whose phone number starts with {@code digits}.
+     */
+    void collectPersonsWithNumberStartingWith(String digits, Set<Person> result) {
+        Node node = find(digits);
+        if (node != null) {
+            collectOwners(node, true, result);
+        }
+    }
+
+    private void collectOwners(Node node, boolean isWholeNumberOnly, Set<Person> result) {
+        for (int i = 0; i < node.ownerSize; i++) {
+            int owner = node.owners[i];
+            if (!isWholeNumberOnly || isWholeNumberOwner(owner)) {
+                result.add(persons.get(toId(owner)));
+            }
+        }
+        for (Node child = node.firstChild; child != null; child = child.nextSibling) {
+            collectOwners(child, isWholeNumberOnly, result);
+        }
+    }
+
+    /**
+     * Returns the node reached by following {@code digits} from the root, or null if there is none.
+     */
+    private Node find(String digits) {
+        if (digits.isEmpty()) {
+            return null;
+        }
+
+        Node node = root;
+        for (int i = 0; i < digits.length() && node != null; i++) {
+            int digit = toDigit(digits.charAt(i));
+            if (digit < 0) {
+                return null;
+            }
+            node = node.getChild(digit);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the owner entry of the person with {@code id}, which records whether the suffix is the whole number.
+     */
+    private static int toOwner(int id, boolean isWholeNumber) {
+        return id << 1 | (isWholeNumber ? 1 : 0);
+    }
+
+    private static int toId(int owner) {
+        return owner >>> 1;
+    }
+
+    private static boolean isWholeNumberOwner(int owner) {
+        return (owner & 1) != 0;
+    }
+
+    /**
+     * Returns the decimal digits of a non-negative {@code number}, most significant first.
+     */
+    private static int[] toDigits(int number) {
+        int length = 1;
+        for (int remaining = number / RADIX; remaining > 0; remaining /= RADIX) {
+            length++;
+        }
+
+        int[] digits = new int[length];
+        int remaining = number;
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = remaining % RADIX;
+            remaining /= RADIX;
+        }
+        return digits;
+    }
+
+    private static int toDigit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    /**
+     * A node of the trie. The digits on the path from the root spell out the suffixes that end at this node.
+     */
+    private static class Node {
+        private final byte digit;
+        private Node firstChild;
+        private Node nextSibling;
+        /** Owner entries of the suffixes that end at this node, sorted, in the first {@code ownerSize} slots. */
+        private int[] owners = NO_OWNERS;
+        private int ownerSize;
+        /** Number of owners, of either kind, of this node and the nodes below it. */
+        private int ownerCount;
+        /** Number of owners of whole numbers at this node and the nodes below it. */
+        private int numberOwnerCount;
+
+        Node(byte digit) {
+            this.digit = digit;
+        }
+
+        Node getChild(int digit) {
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                if (child.digit == digit) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        Node getOrCreateChild(int digit) {
+            Node child = getChild(digit);
+            if (child == null) {
+                child = new Node((byte) digit);
+                child.nextSibling = firstChild;
+                firstChild = child;
+            }
+            return child;
+        }
+
+        void removeChild(Node child) {
+            if (firstChild == child) {
+                firstChild = child.nextSibling;
+                return;
+            }
+            for (Node previous = firstChild; previous != null; previous = previous.nextSibling) {
+                if (previous.nextSibling == child) {
+                    previous.nextSibling = child.nextSibling;
+                    return;
+                }
+            }
+        }
+
+        void addOwner(int owner) {
+            int insertionPoint = -Arrays.binarySearch(owners, 0, ownerSize, owner) - 1;
+            if (ownerSize == owners.length) {
+                owners = Arrays.copyOf(owners, Math.max(1, ownerSize * 2));
+            }
+            System.arraycopy(owners, insertionPoint, owners, insertionPoint + 1, ownerSize - insertionPoint);
+            owners[insertionPoint] = owner;
+            ownerSize++;
+        }
+
+        boolean removeOwner(int owner) {
+            int index = Arrays.binarySearch(owners, 0, ownerSize, owner);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(owners, index + 1, owners, index, ownerSize - index - 1);
+            ownerSize--;
+            if (ownerSize == 0) {
+                owners = NO_OWNERS;
+            }
+            return true;
+        }
+
+        void clear() {
+            firstChild = null;
+            owners = NO_OWNERS;
+            ownerSize = 0;
+            ownerCount = 0;
+            numberOwnerCount = 0;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A search for persons that can be combined with other searches into a single query.
+ * A clause can test one person at a time, find all its matches from a {@code PersonSearchIndex}, and estimate
+ * how many persons it matches without finding them, so that a combined query can be planned around its most
+ * selective clause.
+ */
+public interface SearchClause extends Predicate<Person>, SearchQuery {
+
+    /**
+     * Returns an upper bound on the number of persons in {@code index} that match this clause, which is cheaper
+     * to compute than {@link #evaluate(PersonSearchIndex)}.
+     */
+    int estimateMatches(PersonSearchIndex index);
+
+    /**
+     * Returns this clause, as it tests each person on its own.
+     */
+    @Override
+    default Predicate<Person> toScanPredicate(List<Person> persons) {
+        return this;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A search for persons that is answered from a {@code PersonSearchIndex}, or by looking at each person of a list that
+ * is not indexed.
+ */
+public interface SearchQuery {
+
+    /**
+     * Returns the persons in {@code index} that match this query.
+     */
+    Set<Person> evaluate(PersonSearchIndex index);
+
+    /**
+     * Returns a test for the persons among {@code persons} that match this query, which looks at the persons
+     * themselves instead of an index. Keeps no more persons than the query can match at most.
+     */
+    Predicate<Person> toScanPredicate(List<Person> persons);
+}
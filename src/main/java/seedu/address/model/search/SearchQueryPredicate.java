@@ -0,0 +1,61 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} is among the results of a {@code SearchQuery}.
+ * The query is evaluated once and then again only after the index changes, so testing every person of a list
+ * costs one evaluation plus a hash lookup per person.
+ */
+public class SearchQueryPredicate implements Predicate<Person> {
+
+    private final SearchQuery query;
+    private final PersonSearchIndex index;
+
+    private Set<Person> results;
+    private long resultsVersion;
+
+    /**
+     * Creates a predicate for the results of {@code query} on {@code index}.
+     */
+    public SearchQueryPredicate(SearchQuery query, PersonSearchIndex index) {
+        requireAllNonNull(query, index);
+        this.query = query;
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (results == null || resultsVersion != index.getVersion()) {
+            results = query.evaluate(index);
+            resultsVersion = index.getVersion();
+        }
+        return results.contains(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchQueryPredicate)) {
+            return false;
+        }
+
+        SearchQueryPredicate otherPredicate = (SearchQueryPredicate) other;
+        return query.equals(otherPredicate.query) && index == otherPredicate.index;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
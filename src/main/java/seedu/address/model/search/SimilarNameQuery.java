@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons whose names are most similar to a given name, even if it is misspelled.
+ *
+ * @see PersonSearchIndex#findBySimilarName(String, int, java.util.function.Predicate)
+ */
+public class SimilarNameQuery implements SearchQuery {
+
+    private final String name;
+    private final int limit;
+
+    /**
+     * Creates a query for the {@code limit} persons with the names most similar to {@code name}.
+     */
+    public SimilarNameQuery(String name, int limit) {
+        requireNonNull(name);
+        this.name = name;
+        this.limit = limit;
+    }
+
+    @Override
+    public Set<Person> evaluate(PersonSearchIndex index) {
+        return new HashSet<>(index.findBySimilarName(name, limit, unused -> true));
+    }
+
+    @Override
+    public Predicate<Person> toScanPredicate(List<Person> persons) {
+        Set<Person> matches = new HashSet<>(PersonSearchIndex.scanBySimilarName(persons, name, limit));
+        return matches::contains;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SimilarNameQuery)) {
+            return false;
+        }
+
+        SimilarNameQuery otherSimilarNameQuery = (SimilarNameQuery) other;
+        return name.equals(otherSimilarNameQuery.name) && limit == otherSimilarNameQuery.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("name", name).add("limit", limit).toString();
+    }
+}
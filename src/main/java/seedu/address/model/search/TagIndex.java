@@ -0,0 +1,138 @@
+package seedu.address.model.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes persons by their tags, so that the persons carrying a tag can be found without looking at every person.
+ * Tags are also kept sorted by their lowercase names, so that the tags equal to, or starting with, a keyword are
+ * found with a single lookup or range scan.
+ */
+class TagIndex {
+
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    private final NavigableMap<String, Set<Tag>> tagsByLowerCaseName = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.computeIfAbsent(tag, unused -> new HashSet<>());
+            if (persons.isEmpty()) {
+                tagsByLowerCaseName.computeIfAbsent(tag.tagName.toLowerCase(), unused -> new HashSet<>()).add(tag);
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+                continue;
+            }
+
+            personsByTag.remove(tag);
+            String lowerCaseName = tag.tagName.toLowerCase();
+            Set<Tag> tags = tagsByLowerCaseName.get(lowerCaseName);
+            tags.remove(tag);
+            if (tags.isEmpty()) {
+                tagsByLowerCaseName.remove(lowerCaseName);
+            }
+        }
+    }
+
+    void clear() {
+        personsByTag.clear();
+        tagsByLowerCaseName.clear();
+    }
+
+    /**
+     * Adds to {@code result} the persons with a tag named {@code keyword}, ignoring case.
+     */
+    void collectPersonsWithTagNamed(String keyword, Set<Person> result) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.isEmpty()) {
+            return;
+        }
+        collectPersonsWithTags(tagsByLowerCaseName.get(preppedKeyword), result);
+    }
+
+    /**
+     * Adds to {@code result} the persons with a tag whose name starts with {@code keyword}, ignoring case.
+     */
+    void collectPersonsWithTagStartingWith(String keyword, Set<Person> result) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<Tag>> matchingNames =
+                tagsByLowerCaseName.subMap(preppedKeyword, true, preppedKeyword + Character.MAX_VALUE, true);
+        for (Set<Tag> tags : matchingNames.values()) {
+            collectPersonsWithTags(tags, result);
+        }
+    }
+
+    /**
+     * Returns an upper bound on the number of persons with a tag named {@code keyword}, ignoring case.
+     */
+    int estimatePersonsWithTagNamed(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.isEmpty()) {
+            return 0;
+        }
+        return countPersonsWithTags(tagsByLowerCaseName.get(preppedKeyword));
+    }
+
+    /**
+     * Returns an upper bound on the number of persons with a tag whose name starts with {@code keyword},
+     * ignoring case.
+     */
+    int estimatePersonsWithTagStartingWith(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Set<Tag>> matchingNames =
+                tagsByLowerCaseName.subMap(preppedKeyword, true, preppedKeyword + Character.MAX_VALUE, true);
+        int estimate = 0;
+        for (Set<Tag> tags : matchingNames.values()) {
+            estimate += countPersonsWithTags(tags);
+        }
+        return estimate;
+    }
+
+    private int countPersonsWithTags(Collection<Tag> tags) {
+        if (tags == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Tag tag : tags) {
+            count += personsByTag.get(tag).size();
+        }
+        return count;
+    }
+
+    private void collectPersonsWithTags(Collection<Tag> tags, Set<Person> result) {
+        if (tags == null) {
+            return;
+        }
+        for (Tag tag : tags) {
+            result.addAll(personsByTag.get(tag));
+        }
+    }
+}
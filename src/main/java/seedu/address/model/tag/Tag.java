@@ -3,6 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,10 +17,14 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The canonical instance of each tag, by name. */
+    private static final ConcurrentMap<String, Tag> INSTANCES = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
      * Constructs a {@code Tag}.
+     * Prefer {@link #of(String)}, which shares one instance per tag name.
      *
      * @param tagName A valid tag name.
      */
@@ -25,11 +34,37 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the {@code Tag} named {@code tagName}, creating it only if no person has had that tag before.
+     * Safe to call from several threads.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag existing = INSTANCES.get(tagName);
+        if (existing != null) {
+            return existing;
+        }
+
+        // the constructor checks the tag name, and an invalid one is never added
+        return INSTANCES.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
+     * Checks the same rules as {@link #VALIDATION_REGEX}, in a single pass without a regex.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
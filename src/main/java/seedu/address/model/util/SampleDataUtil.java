@@ -25,22 +25,22 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Address("Blk 30 Geylang Street 29, #06-40"), new Class("K1A"), EMPTY_NOTE,
+                new Address("Blk 30 Geylang Street 29, #06-40"), Class.of("K1A"), EMPTY_NOTE,
                 getTagSet("friends")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), new Class("K1B"), EMPTY_NOTE,
+                new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), Class.of("K1B"), EMPTY_NOTE,
                 getTagSet("colleagues", "friends")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), new Class("K1C"), EMPTY_NOTE,
+                new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), Class.of("K1C"), EMPTY_NOTE,
                 getTagSet("neighbours")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), new Class("K2A"), EMPTY_NOTE,
+                new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), Class.of("K2A"), EMPTY_NOTE,
                 getTagSet("family")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Address("Blk 47 Tampines Street 20, #17-35"), new Class("K2B"), EMPTY_NOTE,
+                new Address("Blk 47 Tampines Street 20, #17-35"), Class.of("K2B"), EMPTY_NOTE,
                 getTagSet("classmates")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Address("Blk 45 Aljunied Street 85, #11-31"), new Class("K2C"), EMPTY_NOTE,
+                new Address("Blk 45 Aljunied Street 85, #11-31"), Class.of("K2C"), EMPTY_NOTE,
                 getTagSet("colleagues"))
         };
     }
@@ -58,7 +58,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
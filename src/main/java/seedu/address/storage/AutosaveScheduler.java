@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the address book on a background thread.
+ * Save requests made while an earlier request is still waiting are coalesced, so a burst of changes results in a
+ * single write of the latest state.
+ */
+public class AutosaveScheduler {
+
+    public static final long DEFAULT_DELAY_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(AutosaveScheduler.class);
+
+    private final AddressBookStorage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<List<Person>> pendingSnapshot = new AtomicReference<>();
+
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+
+    /**
+     * Creates an {@code AutosaveScheduler} that writes to {@code storage} {@code delayMillis} milliseconds after
+     * the first of a burst of save requests.
+     */
+    public AutosaveScheduler(AddressBookStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is notified, on the autosave thread, when a background save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved.
+     * The persons are snapshotted immediately, so later changes to {@code addressBook} do not affect this request.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Person> snapshot = List.copyOf(addressBook.getPersonList());
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.schedule(this::saveInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any pending snapshot immediately and waits for all earlier saves to finish.
+     *
+     * @throws IOException if the pending snapshot could not be written.
+     */
+    public void flush() throws IOException {
+        Future<?> flushed = executor.submit(() -> {
+            savePending();
+            return null;
+        });
+
+        try {
+            flushed.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    private void saveInBackground() {
+        try {
+            savePending();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background: " + ioe.getMessage());
+            failureHandler.accept(ioe);
+        }
+    }
+
+    private void savePending() throws IOException {
+        List<Person> snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(snapshot);
+        storage.saveAddressBook(addressBook);
+    }
+}
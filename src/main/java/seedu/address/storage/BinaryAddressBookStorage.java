@@ -0,0 +1,339 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a dictionary of the strings that tend to
+ * repeat across persons (classes, tags and the comma separated fragments of addresses), and then the persons.
+ * Each person is stored as a length-prefixed record that refers to dictionary strings by their index.
+ * All counts, lengths and indices are stored as unsigned variable-length integers.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "%s is not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%s uses unsupported binary format version %d";
+    public static final String MESSAGE_LENGTH_OUT_OF_RANGE = "Length %d is longer than the %d bytes left";
+
+    /** The bytes "AB3B", which start every binary address book file. */
+    static final int MAGIC_NUMBER = 0x41423342;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String ADDRESS_FRAGMENT_SEPARATOR = ", ";
+
+    private final Path filePath;
+    private final boolean isMapped;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that, if {@code isMapped} is true, reads address books by mapping
+     * the file into memory and creating each person only when it is first needed.
+     * Such address books are read-only and are not checked for duplicate persons.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMapped) {
+        this.filePath = filePath;
+        this.isMapped = isMapped;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file that should be stored in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        if (isMapped) {
+            try {
+                return Optional.of(MappedAddressBook.open(filePath));
+            } catch (IOException ioe) {
+                logger.warning("Error mapping binary file " + filePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            String[] dictionary = readHeader(in, filePath);
+            int personCount = readLength(in);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                byte[] record = new byte[readLength(in)];
+                in.readFully(record);
+                persons.add(decodePerson(record, dictionary));
+            }
+            return Optional.of(toAddressBook(persons));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        Map<String, Integer> dictionary = buildDictionary(persons);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+            dataOut.writeInt(MAGIC_NUMBER);
+            writeVarInt(dataOut, FORMAT_VERSION);
+            writeVarInt(dataOut, dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(dataOut, entry);
+            }
+
+            writeVarInt(dataOut, persons.size());
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            for (Person person : persons) {
+                record.reset();
+                encodePerson(new DataOutputStream(record), person, dictionary);
+                writeVarInt(dataOut, record.size());
+                record.writeTo(dataOut);
+            }
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * Reads the magic number, format version and dictionary at the start of a binary address book file.
+     *
+     * @return the dictionary.
+     * @throws IOException if {@code in} does not hold a binary address book of a supported version.
+     */
+    static String[] readHeader(DataInputStream in, Path filePath) throws IOException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException(String.format(MESSAGE_NOT_A_SNAPSHOT, filePath));
+        }
+        int version = readVarInt(in);
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+        }
+
+        String[] dictionary = new String[readLength(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(in);
+        }
+        return dictionary;
+    }
+
+    private static Map<String, Integer> buildDictionary(List<Person> persons) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (String fragment : person.getAddress().value.split(ADDRESS_FRAGMENT_SEPARATOR, -1)) {
+                dictionary.putIfAbsent(fragment, dictionary.size());
+            }
+            dictionary.putIfAbsent(person.getStudentClass().value, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    private static void encodePerson(DataOutput out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+
+        String[] addressFragments = person.getAddress().value.split(ADDRESS_FRAGMENT_SEPARATOR, -1);
+        writeVarInt(out, addressFragments.length);
+        for (String fragment : addressFragments) {
+            writeVarInt(out, dictionary.get(fragment));
+        }
+
+        writeVarInt(out, dictionary.get(person.getStudentClass().value));
+        writeString(out, person.getNote().value);
+
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, dictionary.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Converts a person record written by {@link #saveAddressBook(ReadOnlyAddressBook, Path)} into the model's
+     * {@code Person}, checking the same constraints as when reading a JSON file.
+     *
+     * @throws IOException if the record is malformed.
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    static Person decodePerson(byte[] record, String[] dictionary) throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+
+        String[] addressFragments = new String[readLength(in)];
+        for (int i = 0; i < addressFragments.length; i++) {
+            addressFragments[i] = readDictionaryEntry(in, dictionary);
+        }
+        String address = String.join(ADDRESS_FRAGMENT_SEPARATOR, addressFragments);
+
+        String studentClass = readDictionaryEntry(in, dictionary);
+        String note = readString(in);
+
+        JsonAdaptedTag[] tags = new JsonAdaptedTag[readLength(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new JsonAdaptedTag(readDictionaryEntry(in, dictionary));
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, address, studentClass, note, Arrays.asList(tags))
+                .toModelType();
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dpe);
+        }
+        return addressBook;
+    }
+
+    private static String readDictionaryEntry(DataInput in, String[] dictionary) throws IOException {
+        int index = readVarInt(in);
+        if (index >= dictionary.length) {
+            throw new IOException("Dictionary index " + index + " is out of range");
+        }
+        return dictionary[index];
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as possible, seven bits per byte, lowest bits first.
+     * The high bit of each byte is set if more bytes follow.
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads the length of a byte array, or the number of items that each take at least one byte, and checks that
+     * that many bytes are left in {@code in}, so that a corrupt length cannot make the reader allocate more memory
+     * than the file could need. The streams read here, of files, byte arrays and buffers, know exactly how many
+     * bytes they have left.
+     *
+     * @throws IOException if the length is longer than the bytes left.
+     */
+    static int readLength(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        int remainingBytes = in.available();
+        if (length > remainingBytes) {
+            throw new IOException(String.format(MESSAGE_LENGTH_OUT_OF_RANGE, length, remainingBytes));
+        }
+        return length;
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(DataOutput, int)}.
+     */
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
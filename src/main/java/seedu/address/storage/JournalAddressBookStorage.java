@@ -0,0 +1,263 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * Each save appends one compact record describing how the persons list changed since the previous save, so the
+ * cost of a save is proportional to the change rather than to the size of the address book. The journal is replayed
+ * on top of the snapshot when reading, and is compacted into a new snapshot once it holds enough records.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** Persons as last read from or written to {@code filePath}, or null if the journal cannot be appended to. */
+    private List<Person> lastSavedPersons;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal into a new snapshot once the journal holds
+     * {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal into a new snapshot once the journal holds
+     * {@code compactionThreshold} records, and writes snapshots as compact JSON if {@code isCompact} is true.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        snapshotStorage = new JsonAddressBookStorage(filePath, isCompact);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        int replayedRecordCount;
+        AddressBook addressBook = new AddressBook();
+        try {
+            replayedRecordCount = replayJournal(filePath, persons);
+            addressBook.setPersons(persons);
+        } catch (IOException | IllegalValueException | DuplicatePersonException e) {
+            logger.info("Journal of " + filePath + " could not be replayed: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            boolean isJournalUsable = replayedRecordCount >= 0;
+            lastSavedPersons = isJournalUsable ? List.copyOf(persons) : null;
+            journalRecordCount = Math.max(replayedRecordCount, 0);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records in the journal of the snapshot at {@code snapshotPath} to {@code persons}.
+     * A journal that was written for a different snapshot is ignored, as is an incomplete final record.
+     *
+     * @return the number of records applied, or -1 if the journal cannot be appended to, as there is no journal for
+     *     this snapshot or its last record was cut off. The next save then compacts into a new snapshot, instead of
+     *     appending to the cut off record.
+     */
+    private static int replayJournal(Path snapshotPath, List<Person> persons)
+            throws IOException, IllegalValueException {
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        String journal = Files.readString(journalPath, StandardCharsets.UTF_8);
+        List<String> lines = journal.lines().collect(Collectors.toList());
+        if (lines.isEmpty() || !isJournalOf(lines.get(0), snapshotPath)) {
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot.");
+            return -1;
+        }
+
+        // every record is written with its line break, so a journal without one at the end was cut off mid-append
+        boolean isLastRecordComplete = journal.endsWith("\n");
+        int appliedRecordCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    throw ioe;
+                }
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                isLastRecordComplete = false;
+                break;
+            }
+            record.applyTo(persons);
+            appliedRecordCount++;
+        }
+        logger.fine("Replayed " + appliedRecordCount + " records from journal " + journalPath);
+        return isLastRecordComplete ? appliedRecordCount : -1;
+    }
+
+    private static boolean isJournalOf(String headerLine, Path snapshotPath) throws IOException {
+        JsonAdaptedJournalHeader header;
+        try {
+            header = JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class);
+        } catch (IOException ioe) {
+            return false;
+        }
+        return header.getSnapshotChecksum() == computeChecksum(snapshotPath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the storage's own file path are journaled; saves to any other location write a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        boolean canAppend = filePath.equals(this.filePath) && lastSavedPersons != null
+                && journalRecordCount < compactionThreshold;
+        if (!canAppend) {
+            writeSnapshot(addressBook, filePath);
+            if (filePath.equals(this.filePath)) {
+                lastSavedPersons = persons;
+                journalRecordCount = 0;
+            }
+            return;
+        }
+
+        Optional<JsonAdaptedJournalRecord> record = diff(lastSavedPersons, persons);
+        if (!record.isPresent()) {
+            return;
+        }
+
+        appendLine(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(record.get()));
+        lastSavedPersons = persons;
+        journalRecordCount++;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code snapshotPath} and starts an empty journal for it.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+        String header = JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(computeChecksum(snapshotPath)));
+        Files.write(getJournalFilePath(snapshotPath), (header + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE,
+                StandardOpenOption.DSYNC);
+    }
+
+    private static void appendLine(Path journalPath, String line) throws IOException {
+        Files.write(journalPath, (line + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+    }
+
+    /**
+     * Returns a record that turns {@code before} into {@code after}, or {@code Optional.empty()} if they are equal.
+     * The record replaces the range between the longest common prefix and the longest common suffix of both lists.
+     */
+    private static Optional<JsonAdaptedJournalRecord> diff(List<Person> before, List<Person> after) {
+        int commonLength = Math.min(before.size(), after.size());
+
+        int prefixLength = 0;
+        while (prefixLength < commonLength && before.get(prefixLength).equals(after.get(prefixLength))) {
+            prefixLength++;
+        }
+
+        int suffixLength = 0;
+        while (suffixLength < commonLength - prefixLength
+                && before.get(before.size() - 1 - suffixLength).equals(after.get(after.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        int removedCount = before.size() - prefixLength - suffixLength;
+        List<Person> inserted = after.subList(prefixLength, after.size() - suffixLength);
+        if (removedCount == 0 && inserted.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new JsonAdaptedJournalRecord(prefixLength, removedCount,
+                inserted.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList())));
+    }
+
+    private static long computeChecksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+}
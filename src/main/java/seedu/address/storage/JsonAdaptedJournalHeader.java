@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of an address book journal.
+ * Records the checksum of the snapshot that the rest of the journal applies to, so that a journal left behind by an
+ * interrupted compaction is recognised as stale instead of being replayed twice.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot with the given checksum.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+}
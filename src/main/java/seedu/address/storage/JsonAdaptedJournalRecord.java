@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of one change to the person list, stored as a single line of the address book journal.
+ * Applying the record replaces {@code removed} persons starting at index {@code from} with the {@code inserted}
+ * persons, which covers adding, editing and deleting a person as well as any contiguous batch of such changes.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_RECORD_OUT_OF_RANGE =
+            "Journal record does not fit the persons list it is replayed on.";
+
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> inserted = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("from") int from,
+                                    @JsonProperty("removed") int removed,
+                                    @JsonProperty("inserted") List<JsonAdaptedPerson> inserted) {
+        this.from = from;
+        this.removed = removed;
+        if (inserted != null) {
+            this.inserted.addAll(inserted);
+        }
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     * {@code persons} is left unchanged if this record is invalid.
+     *
+     * @throws IllegalValueException if an inserted person is invalid, or the change does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from > persons.size() - removed) {
+            throw new IllegalValueException(MESSAGE_RECORD_OUT_OF_RANGE);
+        }
+
+        List<Person> insertedPersons = new ArrayList<>(inserted.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : inserted) {
+            insertedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+
+        List<Person> replacedRange = persons.subList(from, from + removed);
+        replacedRange.clear();
+        replacedRange.addAll(insertedPersons);
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -82,55 +83,33 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
-
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Name modelName = toModelField(name, Name.class.getSimpleName(), Name::new);
+        final Phone modelPhone = toModelField(phone, Phone.class.getSimpleName(), Phone::new);
+        final Email modelEmail = toModelField(email, Email.class.getSimpleName(), Email::new);
+        final Address modelAddress = toModelField(address, Address.class.getSimpleName(), Address::new);
+        final Class modelStudentClass = toModelField(studentClass, Class.class.getSimpleName(), Class::of);
+        final Note modelNote = toModelField(note, Note.class.getSimpleName(), Note::new);
 
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
-
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
-        }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Set<Tag> modelTags = new HashSet<>(personTags);
+        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelStudentClass, modelNote, modelTags);
+    }
 
-        if (studentClass == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Class.class.getSimpleName()));
-        }
-        if (!Class.isValidClass(studentClass)) {
-            throw new IllegalValueException(Class.MESSAGE_CONSTRAINTS);
+    /**
+     * Converts {@code value} into the model's type for the field named {@code fieldName} with {@code constructor}.
+     * The constructor checks the field's constraints, so they are only checked once.
+     *
+     * @throws IllegalValueException if {@code value} is missing or violates the constraints of the field.
+     */
+    private static <T> T toModelField(String value, String fieldName, Function<String, T> constructor)
+            throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
         }
-        final Class modelStudentClass = new Class(studentClass);
 
-        if (note == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
-        }
-        if (!Note.isValidNote(note)) {
-            throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
         }
-        final Note modelNote = new Note(note);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelStudentClass, modelNote, modelTags);
     }
 }
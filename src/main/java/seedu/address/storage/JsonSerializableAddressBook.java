@@ -1,17 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +28,12 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON_FORMAT = "persons[%d]: %s";
+
+    /** Number of persons that are read from a stream before they are converted together. */
+    private static final int CONVERSION_BATCH_SIZE = 1024;
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -27,7 +41,7 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -42,17 +56,120 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are converted first, in parallel, and then published to the address book in one bulk replacement,
+     * which checks identity uniqueness in a single pass.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. The message lists every invalid
+     *     person together with its index in the persons list.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        List<String> errors = new ArrayList<>();
+        convertAll(persons, 0, modelPersons, errors);
+        throwIfAnyErrors(errors);
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Reads an address book in the format written by this class from {@code parser} and converts it into the model's
+     * {@code AddressBook} object.
+     * Persons are converted in batches as they are read, so at no point is the whole file, or a tree of
+     * {@code JsonAdaptedPerson}s for all of it, held in memory. Fields other than the persons are skipped.
+     *
+     * @param parser positioned before the start of the address book.
+     * @throws IOException if the content is not valid JSON or not shaped like an address book.
+     * @throws IllegalValueException if there were any data constraints violated. The message lists every invalid
+     *     person together with its index in the persons list.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object holding the address book");
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+
+            int batchStartIndex = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    convertAll(batch, batchStartIndex, modelPersons, errors);
+                    batchStartIndex += batch.size();
+                    batch.clear();
+                }
+            }
+            convertAll(batch, batchStartIndex, modelPersons, errors);
+            batch.clear();
+        }
+        throwIfAnyErrors(errors);
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format read by {@link #readModelType(JsonParser)}.
+     * Each person is adapted and written in turn, so the document is never built up in memory.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts {@code adaptedPersons} to the model's {@code Person}s on the common fork-join pool.
+     * Valid persons are appended to {@code modelPersons}, and the reasons why the others are invalid to
+     * {@code errors}, both in the order of {@code adaptedPersons}.
+     *
+     * @param firstIndex index of the first of {@code adaptedPersons} in the persons list, used in error messages.
+     */
+    private static void convertAll(List<JsonAdaptedPerson> adaptedPersons, int firstIndex,
+            List<Person> modelPersons, List<String> errors) {
+        Person[] converted = new Person[adaptedPersons.size()];
+        String[] conversionErrors = new String[adaptedPersons.size()];
+        IntStream.range(0, adaptedPersons.size()).parallel().forEach(i -> {
+            try {
+                converted[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                conversionErrors[i] = String.format(MESSAGE_INVALID_PERSON_FORMAT, firstIndex + i, ive.getMessage());
             }
-            addressBook.addPerson(person);
+        });
+
+        for (int i = 0; i < converted.length; i++) {
+            if (conversionErrors[i] != null) {
+                errors.add(conversionErrors[i]);
+            } else {
+                modelPersons.add(converted[i]);
+            }
+        }
+    }
+
+    private static void throwIfAnyErrors(List<String> errors) throws IllegalValueException {
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+    }
+
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, dpe);
         }
         return addressBook;
     }
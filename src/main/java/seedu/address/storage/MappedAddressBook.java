@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only address book backed by a memory-mapped binary address book file.
+ * Opening it reads the dictionary and the lengths of the person records, and checks that each record holds a valid
+ * person without keeping that person. Each {@code Person} is created from its record again when it is needed, for
+ * example when it is shown in the list, and is only softly cached.
+ * <p>
+ * A record that violates the constraints of a person is reported when the file is opened, and is left out of the
+ * person list.
+ */
+class MappedAddressBook implements ReadOnlyAddressBook {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBook.class);
+
+    private final Path filePath;
+    private final MappedByteBuffer buffer;
+    private final String[] dictionary;
+    private final int[] recordOffsets;
+    private final int[] recordLengths;
+    /** The records of the persons in the list, in order, which leaves out the invalid records. */
+    private final int[] validRecords;
+    private final ObservableList<Person> persons;
+
+    private MappedAddressBook(Path filePath, MappedByteBuffer buffer, String[] dictionary, int[] recordOffsets,
+            int[] recordLengths) {
+        this.filePath = filePath;
+        this.buffer = buffer;
+        this.dictionary = dictionary;
+        this.recordOffsets = recordOffsets;
+        this.recordLengths = recordLengths;
+        validRecords = IntStream.range(0, recordOffsets.length).parallel().filter(this::isValidRecord).toArray();
+        persons = new LazyPersonList();
+    }
+
+    /**
+     * Maps the binary address book file at {@code filePath} and locates its person records.
+     *
+     * @throws IOException if the file cannot be mapped or is not a binary address book of a supported version.
+     */
+    public static MappedAddressBook open(Path filePath) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ByteBuffer reader = buffer.duplicate();
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(reader));
+        String[] dictionary = BinaryAddressBookStorage.readHeader(in, filePath);
+
+        int personCount = BinaryAddressBookStorage.readLength(in);
+        int[] recordOffsets = new int[personCount];
+        int[] recordLengths = new int[personCount];
+        for (int i = 0; i < personCount; i++) {
+            recordLengths[i] = BinaryAddressBookStorage.readVarInt(in);
+            recordOffsets[i] = reader.position();
+            if (recordLengths[i] > reader.remaining()) {
+                throw new IOException("Person record " + i + " of " + filePath + " is incomplete");
+            }
+            reader.position(recordOffsets[i] + recordLengths[i]);
+        }
+        return new MappedAddressBook(filePath, buffer, dictionary, recordOffsets, recordLengths);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns true if the record at {@code recordIndex} holds a valid person, or reports it otherwise.
+     */
+    private boolean isValidRecord(int recordIndex) {
+        try {
+            decodeRecord(recordIndex);
+            return true;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Skipping invalid person record " + recordIndex + " of " + filePath + ": "
+                    + e.getMessage());
+            return false;
+        }
+    }
+
+    private Person decodeRecord(int recordIndex) throws IOException, IllegalValueException {
+        byte[] record = new byte[recordLengths[recordIndex]];
+        buffer.get(recordOffsets[recordIndex], record);
+        return BinaryAddressBookStorage.decodePerson(record, dictionary);
+    }
+
+    private Person readPerson(int recordIndex) {
+        try {
+            return decodeRecord(recordIndex);
+        } catch (IOException | IllegalValueException e) {
+            // the record was valid when the file was opened, so the mapped file must have changed since
+            throw new IllegalStateException("Person record " + recordIndex + " of " + filePath
+                    + " changed after it was opened: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("size", validRecords.length)
+                .toString();
+    }
+
+    /**
+     * An unmodifiable list of the persons in the valid records, which creates each person from its record when it is
+     * first accessed.
+     */
+    private class LazyPersonList extends ObservableListBase<Person> {
+        @SuppressWarnings("unchecked")
+        private final SoftReference<Person>[] cache = new SoftReference[validRecords.length];
+
+        @Override
+        public Person get(int index) {
+            SoftReference<Person> cached = cache[index];
+            Person person = cached == null ? null : cached.get();
+            if (person == null) {
+                person = readPerson(validRecords[index]);
+                cache[index] = new SoftReference<>(person);
+            }
+            return person;
+        }
+
+        @Override
+        public int size() {
+            return validRecords.length;
+        }
+    }
+
+    /**
+     * An {@code InputStream} that reads from, and advances the position of, a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
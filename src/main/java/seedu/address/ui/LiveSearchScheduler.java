@@ -0,0 +1,52 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Future;
+
+import seedu.address.logic.CommandPipeline;
+
+/**
+ * Filters the person list while a search command is typed, by running a live search for the text of the command box
+ * on the worker of the {@code CommandPipeline}.
+ * A search only starts once typing pauses for {@value #DEBOUNCE_DELAY_MILLIS} milliseconds, and typing again, or
+ * entering a command, cancels it if it has not started yet. As searches and commands run in turn on the same worker,
+ * the list always ends up showing the results of whichever ran last. The methods of this class must be called on the
+ * JavaFX Application Thread.
+ */
+public class LiveSearchScheduler {
+
+    /** About one frame, so that a burst of changes, such as a paste, starts a single search. */
+    public static final long DEBOUNCE_DELAY_MILLIS = 16;
+
+    private final CommandPipeline commandPipeline;
+
+    private Future<?> pendingSearch;
+
+    /**
+     * Creates a {@code LiveSearchScheduler} that runs live searches through {@code commandPipeline}.
+     */
+    public LiveSearchScheduler(CommandPipeline commandPipeline) {
+        requireNonNull(commandPipeline);
+        this.commandPipeline = commandPipeline;
+    }
+
+    /**
+     * Schedules a live search for {@code commandText}, cancelling any search that has not started yet.
+     */
+    public void schedule(String commandText) {
+        requireNonNull(commandText);
+        cancel();
+        pendingSearch = commandPipeline.scheduleLiveSearch(commandText, DEBOUNCE_DELAY_MILLIS);
+    }
+
+    /**
+     * Cancels any search that has not started yet.
+     */
+    public void cancel() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.control.TextArea;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
 import javafx.stage.Stage;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.NotePhrase;
 
 /**
  * A popup window containing the detailed view of a person, following the same pattern as HelpWindow.
@@ -14,6 +18,7 @@ public class ViewWindow extends UiPart<Stage> {
     private static final String FXML = "ViewWindow.fxml";
     private static final double MIN_WIDTH = 500;
     private static final double MIN_HEIGHT = 600;
+    private static final String NOTE_HIGHLIGHT_STYLE_CLASS = "note-highlight";
 
     @FXML
     private Label tagsLabel;
@@ -28,7 +33,7 @@ public class ViewWindow extends UiPart<Stage> {
     @FXML
     private Label addressLabel;
     @FXML
-    private TextArea notesArea;
+    private TextFlow notesFlow;
     @FXML
     private Label attendanceLabel;
 
@@ -56,7 +61,18 @@ public class ViewWindow extends UiPart<Stage> {
      * @param person the person whose details will be displayed, cannot be null.
      */
     public void show(Person person) {
-        fillFields(person);
+        show(person, List.of());
+    }
+
+    /**
+     * Shows the view window with the specified person's details, highlighting the parts of the person's note that
+     * match any of {@code noteHighlightPhrases}.
+     *
+     * @param person the person whose details will be displayed, cannot be null.
+     * @param noteHighlightPhrases the phrases to highlight in the note, cannot be null.
+     */
+    public void show(Person person, List<NotePhrase> noteHighlightPhrases) {
+        fillFields(person, noteHighlightPhrases);
         getRoot().show();
         getRoot().centerOnScreen();
     }
@@ -94,8 +110,9 @@ public class ViewWindow extends UiPart<Stage> {
      * Fills all fields with the given person's information.
      *
      * @param person the person whose details will be displayed
+     * @param noteHighlightPhrases the phrases to highlight in the note
      */
-    private void fillFields(Person person) {
+    private void fillFields(Person person, List<NotePhrase> noteHighlightPhrases) {
         nameLabel.setText(person.getName().fullName);
         phoneLabel.setText(person.getPhone().value);
         emailLabel.setText(person.getEmail().value);
@@ -114,9 +131,9 @@ public class ViewWindow extends UiPart<Stage> {
 
         // Notes
         if (person.getNote() != null && !person.getNote().value.isEmpty()) {
-            notesArea.setText(person.getNote().value);
+            fillNotes(person.getNote().value, noteHighlightPhrases);
         } else {
-            notesArea.setText("No notes available");
+            notesFlow.getChildren().setAll(new Text("No notes available"));
         }
 
         // Attendance
@@ -126,6 +143,26 @@ public class ViewWindow extends UiPart<Stage> {
         getRoot().setTitle("View Contact: " + person.getName().fullName);
     }
 
+    /**
+     * Shows {@code note}, with the parts that match any of {@code highlightPhrases} highlighted.
+     */
+    private void fillNotes(String note, List<NotePhrase> highlightPhrases) {
+        notesFlow.getChildren().clear();
+        int shownUpTo = 0;
+        for (int[] span : NotePhrase.findMatchingSpans(note, highlightPhrases)) {
+            if (span[0] > shownUpTo) {
+                notesFlow.getChildren().add(new Text(note.substring(shownUpTo, span[0])));
+            }
+            Label highlight = new Label(note.substring(span[0], span[1]));
+            highlight.getStyleClass().add(NOTE_HIGHLIGHT_STYLE_CLASS);
+            notesFlow.getChildren().add(highlight);
+            shownUpTo = span[1];
+        }
+        if (shownUpTo < note.length()) {
+            notesFlow.getChildren().add(new Text(note.substring(shownUpTo)));
+        }
+    }
+
     /**
      * Clears the display and resets the window title.
      */
@@ -136,7 +173,7 @@ public class ViewWindow extends UiPart<Stage> {
         addressLabel.setText("");
         classLabel.setText("");
         tagsLabel.setText("");
-        notesArea.setText("");
+        notesFlow.getChildren().clear();
         attendanceLabel.setText("");
         getRoot().setTitle("View Contact");
     }
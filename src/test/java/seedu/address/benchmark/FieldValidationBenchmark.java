@@ -0,0 +1,104 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long it takes to validate the fields of 100,000 person records, as happens when an address book of
+ * that size is loaded, with {@code String#matches(String)} on each {@code VALIDATION_REGEX} and with the
+ * {@code isValidX} methods of the field classes.
+ * Each field is validated once per record, as loading only checks it in the field's constructor.
+ * <p>
+ * Run with {@code gradlew benchmark}.
+ */
+public class FieldValidationBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] CLASSES = {"Nursery", "Pre-K", "K1A", "K1B", "K1C", "K2A", "K2B", "K2C"};
+
+    /**
+     * The text fields of a person record, as read from a file.
+     */
+    private static class Record {
+        private final String name;
+        private final String email;
+        private final String studentClass;
+        private final String note;
+        private final String tag;
+
+        Record(String name, String email, String studentClass, String note, String tag) {
+            this.name = name;
+            this.email = email;
+            this.studentClass = studentClass;
+            this.note = note;
+            this.tag = tag;
+        }
+    }
+
+    public static void main(String[] args) {
+        List<Record> records = createRecords();
+
+        Predicate<Record> regexValidator = record ->
+                !record.name.trim().isEmpty() && record.name.matches(Name.VALIDATION_REGEX)
+                && record.email.matches(Email.VALIDATION_REGEX)
+                && record.studentClass.trim().matches(Class.VALIDATION_REGEX)
+                && record.note.matches(Note.VALIDATION_REGEX) && record.note.length() <= Note.MAX_LENGTH
+                && record.tag.matches(Tag.VALIDATION_REGEX);
+        Predicate<Record> currentValidator = record -> Name.isValidName(record.name)
+                && Email.isValidEmail(record.email)
+                && Class.isValidClass(record.studentClass)
+                && Note.isValidNote(record.note)
+                && Tag.isValidTagName(record.tag);
+
+        System.out.printf("Validating %,d records, best of %d rounds:%n", RECORD_COUNT, MEASURED_ROUNDS);
+        System.out.printf("  String#matches(VALIDATION_REGEX): %,8.1f ms%n", measure(records, regexValidator));
+        System.out.printf("  isValidX:                         %,8.1f ms%n", measure(records, currentValidator));
+    }
+
+    /**
+     * Returns the shortest time, in milliseconds, that {@code validator} took to check all {@code records}.
+     */
+    private static double measure(List<Record> records, Predicate<Record> validator) {
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            int validCount = 0;
+            for (Record record : records) {
+                if (validator.test(record)) {
+                    validCount++;
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            if (validCount != records.size()) {
+                throw new AssertionError("Only " + validCount + " of " + records.size() + " records are valid");
+            }
+            if (round >= WARMUP_ROUNDS) {
+                bestNanos = Math.min(bestNanos, elapsedNanos);
+            }
+        }
+        return bestNanos / 1e6;
+    }
+
+    private static List<Record> createRecords() {
+        List<Record> records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            String suffix = Integer.toString(i, Character.MAX_RADIX).replaceAll("[0-9]", "x");
+            records.add(new Record("Student " + suffix + " O'Brien-Tan",
+                    "parent." + i + "@school-mail.example.com",
+                    CLASSES[i % CLASSES.length],
+                    "Picked up by guardian " + i + " on weekdays; allergic to peanuts.",
+                    "parent" + (i % 100)));
+        }
+        return records;
+    }
+}
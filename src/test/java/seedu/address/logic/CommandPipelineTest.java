@@ -0,0 +1,219 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandPipelineTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    /** The results delivered by the pipeline, which are only shown when the test runs them. */
+    private final BlockingQueue<Runnable> pendingResults = new LinkedBlockingQueue<>();
+    private final List<Boolean> busyChanges = new ArrayList<>();
+
+    private Model model;
+    private CommandPipeline commandPipeline;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        commandPipeline = new CommandPipeline(logic, pendingResults::add);
+        commandPipeline.setBusyHandler(busyChanges::add);
+    }
+
+    @Test
+    public void submit_validCommand_showsChangesOnResultExecutor() throws Exception {
+        CompletableFuture<CommandResult> result = commandPipeline.submit("delete 1");
+        assertEquals(List.of(true), busyChanges);
+
+        // the model changes on the worker, but the shown list only when the result is delivered
+        Runnable pendingResult = takePendingResult();
+        assertEquals(getTypicalPersons(), commandPipeline.getShownPersonList());
+        assertFalse(result.isDone());
+
+        pendingResult.run();
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getShownPersonList());
+        assertFalse(commandPipeline.getShownPersonList().contains(ALICE));
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE)),
+                result.get().getFeedbackToUser());
+        assertEquals(List.of(true, false), busyChanges);
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandPipeline.submit("uicfhmowqewca");
+        takePendingResult().run();
+
+        assertTrue(result.isCompletedExceptionally());
+        Throwable failure = result.handle((unused, e) -> e).get();
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+        assertEquals(getTypicalPersons(), commandPipeline.getShownPersonList());
+        assertEquals(List.of(true, false), busyChanges);
+    }
+
+    @Test
+    public void submit_severalCommands_runInOrderAndStayBusyUntilAllFinish() throws Exception {
+        CompletableFuture<CommandResult> first = commandPipeline.submit("find-n meier");
+        CompletableFuture<CommandResult> second = commandPipeline.submit("delete 1");
+
+        takePendingResult().run();
+        assertEquals(List.of(BENSON, DANIEL), commandPipeline.getShownPersonList());
+        assertTrue(first.isDone());
+        assertEquals(List.of(true), busyChanges);
+
+        // the second command deletes the first person that the first command found
+        takePendingResult().run();
+        assertEquals(List.of(DANIEL), commandPipeline.getShownPersonList());
+        assertTrue(second.isDone());
+        assertEquals(List.of(true, false), busyChanges);
+    }
+
+    @Test
+    public void scheduleLiveSearch_partlyTypedFindName_filtersShownList() throws Exception {
+        commandPipeline.scheduleLiveSearch("find-n mei", 0);
+        takePendingResult().run();
+        assertEquals(List.of(BENSON, DANIEL), commandPipeline.getShownPersonList());
+
+        // live searches do not make the pipeline busy
+        assertEquals(List.of(), busyChanges);
+
+        commandPipeline.scheduleLiveSearch("list", 0);
+        takePendingResult().run();
+        assertEquals(getTypicalPersons(), commandPipeline.getShownPersonList());
+    }
+
+    @Test
+    public void shutdown_commandsSubmitted_waitsForCommandsToChangeModel() {
+        commandPipeline.submit("delete 1");
+        commandPipeline.submit("delete 1");
+        commandPipeline.shutdown();
+
+        // both commands have run before shutdown returns, even though their results are not shown yet
+        assertFalse(model.getAddressBook().getPersonList().contains(ALICE));
+        assertFalse(model.getAddressBook().getPersonList().contains(BENSON));
+        assertEquals(2, pendingResults.size());
+    }
+
+    @Test
+    public void shutdown_liveSearchNotStarted_liveSearchDropped() {
+        Future<?> liveSearch = commandPipeline.scheduleLiveSearch("find-n mei", TimeUnit.MINUTES.toMillis(1));
+        commandPipeline.shutdown();
+
+        assertTrue(liveSearch.isCancelled());
+        assertTrue(pendingResults.isEmpty());
+        assertThrows(RejectedExecutionException.class, () -> commandPipeline.submit("list"));
+    }
+
+    @Test
+    public void submit_mappedAddressBook_personsOnlyReadWhenShown() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook mappedAddressBook = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        ReadCountingPersonList persons = new ReadCountingPersonList(mappedAddressBook.getPersonList());
+
+        Model readOnlyModel = new ModelManager(() -> persons, new UserPrefs(), true);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(readOnlyModel,
+                new StorageManager(new BinaryAddressBookStorage(filePath), userPrefsStorage));
+        CommandPipeline readOnlyPipeline = new CommandPipeline(logic, pendingResults::add);
+        ObservableList<Person> shownPersons = readOnlyPipeline.getShownPersonList();
+        assertEquals(List.of(), persons.readIndices);
+
+        assertEquals(getTypicalPersons().size(), shownPersons.size());
+        assertEquals(CARL, shownPersons.get(2));
+        assertEquals(List.of(2), persons.readIndices);
+
+        // the search reads every person on the worker, but showing its result reads none of them
+        readOnlyPipeline.submit("find-n meier");
+        Runnable pendingResult = takePendingResult();
+        persons.readIndices.clear();
+        pendingResult.run();
+        assertEquals(2, shownPersons.size());
+        assertEquals(List.of(), persons.readIndices);
+
+        assertEquals(BENSON, shownPersons.get(0));
+        assertEquals(List.of(1), persons.readIndices);
+        readOnlyPipeline.shutdown();
+    }
+
+    @Test
+    public void getShownPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> commandPipeline.getShownPersonList().remove(0));
+    }
+
+    private Runnable takePendingResult() throws InterruptedException {
+        Runnable pendingResult = pendingResults.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(pendingResult);
+        return pendingResult;
+    }
+
+    /**
+     * A view of a person list that records the positions of the persons read from it.
+     */
+    private static class ReadCountingPersonList extends ObservableListBase<Person> {
+        private final List<Person> persons;
+        private final List<Integer> readIndices = new ArrayList<>();
+
+        ReadCountingPersonList(List<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Person get(int index) {
+            readIndices.add(index);
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+    }
+}
@@ -1,26 +1,40 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ReadOnlyAddressBookException;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -30,6 +44,8 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_COMMAND_AMY = "add n/Amy Bee p/81111111 e/amy@example.com a/123 Main St c/K1A";
+    private static final long LONG_AUTOSAVE_DELAY_MILLIS = 60_000;
 
     @TempDir
     public Path temporaryFolder;
@@ -65,17 +81,83 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = useRecordingStorage(LONG_AUTOSAVE_DELAY_MILLIS);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+
+        assertTrue(savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void execute_burstOfModifyingCommands_savedOnce() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = useRecordingStorage(LONG_AUTOSAVE_DELAY_MILLIS);
+
+        logic.execute(ADD_COMMAND_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("add n/Bob Choo p/82222222 e/bob@example.com a/456 Side St c/K2B");
+        logic.flushPendingSaves();
+
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(model.getAddressBook(), savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void flushPendingSaves_storageThrowsIoException_throwsIoException() throws Exception {
+        useFailingStorage(DUMMY_IO_EXCEPTION, LONG_AUTOSAVE_DELAY_MILLIS);
+
+        logic.execute(ADD_COMMAND_AMY);
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flushPendingSaves());
+    }
+
+    @Test
+    public void execute_modifyingCommandOnReadOnlyAddressBook_throwsCommandException() {
+        model = new ModelManager(new AddressBook(), new UserPrefs(), true);
+        setUp();
+        assertCommandException(ADD_COMMAND_AMY, new ReadOnlyAddressBookException().getMessage());
+    }
+
+    @Test
+    public void computeLiveFilter_partlyTypedFindName_filtersUntilNextCommand() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        setUp();
+
+        // not a search with keywords
+        assertEquals(Optional.empty(), logic.computeLiveFilter("find-n  "));
+        assertEquals(Optional.empty(), logic.computeLiveFilter("delete 1"));
+
+        // computing a live filter does not change the list
+        Optional<Predicate<Person>> liveFilter = logic.computeLiveFilter("find-n mei");
+        assertEquals(getTypicalPersons(), logic.getFilteredPersonList());
+
+        logic.showLiveFilter(liveFilter.get());
+        assertEquals(List.of(BENSON, DANIEL), logic.getFilteredPersonList());
+        logic.showLiveFilter(logic.computeLiveFilter("find-n meie kur").get());
+        assertEquals(List.of(BENSON, CARL, DANIEL), logic.getFilteredPersonList());
+        logic.clearLiveFilter();
+        assertEquals(getTypicalPersons(), logic.getFilteredPersonList());
+
+        // a command replaces the live filter, which is then not cleared
+        logic.showLiveFilter(logic.computeLiveFilter("find-n mei").get());
+        logic.execute("find-n elle");
+        logic.clearLiveFilter();
+        assertEquals(List.of(ELLE), logic.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -136,14 +218,37 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds; the failed background save is reported through the save failure handler.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
+        useFailingStorage(e, 0);
+        List<String> reportedMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
+
+        // Create expected model with the person added (since the command succeeds in memory)
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Person expectedPerson = new PersonBuilder().withName("Amy Bee").withPhone("81111111")
+                .withEmail("amy@example.com").withAddress("123 Main St").withClass("K1A")
+                .withNote("").withTags().build();
+        expectedModel.addPerson(expectedPerson);
+
+        assertCommandSuccess(ADD_COMMAND_AMY, String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedPerson)), expectedModel);
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // The background save was scheduled before the flush, so it has completed once the flush returns
+        logic.flushPendingSaves();
+        assertEquals(List.of(expectedMessage), reportedMessages);
+    }
+
+    /**
+     * Injects a LogicManager with an AddressBookStorage that throws the IOException {@code e} when saving.
+     */
+    private void useFailingStorage(IOException e, long autosaveDelayMillis) {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -154,20 +259,26 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Use a simple add command that should parse successfully
-        String addCommand = "add n/Amy Bee p/81111111 e/amy@example.com a/123 Main St c/K1A";
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage),
+                autosaveDelayMillis);
+    }
 
-        // Create expected model with the person added (since the command succeeds in memory)
-        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        Person expectedPerson = new PersonBuilder().withName("Amy Bee").withPhone("81111111")
-                .withEmail("amy@example.com").withAddress("123 Main St").withClass("K1A")
-                .withNote("").withTags().build();
-        expectedModel.addPerson(expectedPerson);
+    /**
+     * Injects a LogicManager with an AddressBookStorage that records every address book it is asked to save.
+     */
+    private List<ReadOnlyAddressBook> useRecordingStorage(long autosaveDelayMillis) {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        savedAddressBooks.add(addressBook);
+                    }
+                };
 
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage),
+                autosaveDelayMillis);
+        return savedAddressBooks;
     }
 }
@@ -9,9 +9,15 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.GEORGE_DUPLICATE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -143,6 +149,75 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_exactNameWithExtraWhitespaceAndCase_deletesWithoutAsking() {
+        DeleteCommand deleteCommand = new DeleteCommand("  alice   PAULINE ", candidates -> {
+            throw new AssertionError("An exact match should not ask the user to choose");
+        });
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_misspelledName_deletesChosenCandidate() {
+        List<Person> offeredCandidates = new ArrayList<>();
+        DeleteCommand deleteCommand = new DeleteCommand("Bensen Meier", candidates -> {
+            offeredCandidates.addAll(candidates);
+            return Optional.of(candidates.get(0));
+        });
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(BENSON));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        // the closest name is offered first
+        assertEquals(BENSON, offeredCandidates.get(0));
+        assertTrue(offeredCandidates.size() <= DeleteCommand.MAX_CANDIDATES);
+    }
+
+    @Test
+    public void execute_duplicateExactNames_choosesAmongDuplicatesOnly() {
+        List<Person> offeredCandidates = new ArrayList<>();
+        DeleteCommand deleteCommand = new DeleteCommand("george best", candidates -> {
+            offeredCandidates.addAll(candidates);
+            return Optional.of(GEORGE_DUPLICATE);
+        });
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(GEORGE_DUPLICATE));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(GEORGE_DUPLICATE);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertEquals(2, offeredCandidates.size());
+        assertTrue(offeredCandidates.contains(GEORGE));
+        assertTrue(offeredCandidates.contains(GEORGE_DUPLICATE));
+    }
+
+    @Test
+    public void execute_noSimilarName_throwsCommandException() {
+        List<List<Person>> offeredCandidates = new ArrayList<>();
+        DeleteCommand deleteCommand = new DeleteCommand("Zzyzx Qwv", candidates -> {
+            offeredCandidates.add(candidates);
+            return Optional.empty();
+        });
+
+        assertCommandFailure(deleteCommand, model, DeleteCommand.MESSAGE_DELETION_CANCELLED);
+        // the chooser is told that nothing matched
+        assertEquals(List.of(List.of()), offeredCandidates);
+    }
+
+    @Test
+    public void execute_choiceCancelled_throwsCommandException() {
+        DeleteCommand deleteCommand = new DeleteCommand("Bensen Meier", candidates -> Optional.empty());
+        assertCommandFailure(deleteCommand, model, DeleteCommand.MESSAGE_DELETION_CANCELLED);
+    }
+
     @Test
     public void check_singleExactMatch() {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindClassCommand}.
+ */
+public class FindClassCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ClassMatchesPredicate firstPredicate =
+                new ClassMatchesPredicate(Collections.singletonList(Class.of("K1A")));
+        ClassMatchesPredicate secondPredicate =
+                new ClassMatchesPredicate(Collections.singletonList(Class.of("K2A")));
+
+        FindClassCommand findFirstCommand = new FindClassCommand(firstPredicate);
+        FindClassCommand findSecondCommand = new FindClassCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindClassCommand findFirstCommandCopy = new FindClassCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different classes -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_emptyClass_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Collections.singletonList(Class.of("Pre-K")));
+        FindClassCommand command = new FindClassCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleClasses_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Arrays.asList(Class.of("K1A"), Class.of("K2B")));
+        FindClassCommand command = new FindClassCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Arrays.asList(Class.of("K1A")));
+        FindClassCommand findClassCommand = new FindClassCommand(predicate);
+        String expected = FindClassCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findClassCommand.toString());
+    }
+}
@@ -54,6 +54,16 @@ public class FindNameCommandTest {
         assertFalse(findFirstCommand.equals(findSecondCommand));
     }
 
+    @Test
+    public void execute_misspelledKeyword_similarNamesFound() {
+        String expectedMessage = String.format(FindNameCommand.MESSAGE_SIMILAR_PERSONS_LISTED, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kuns Kurzz");
+        FindNameCommand command = new FindNameCommand(predicate);
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL) || person.equals(FIONA));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_zeroKeywords_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.NoteContainsPhrasesPredicate;
+import seedu.address.model.search.NotePhrase;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindNoteCommand}.
+ */
+public class FindNoteCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NoteContainsPhrasesPredicate firstPredicate =
+                new NoteContainsPhrasesPredicate(List.of(new NotePhrase("first", false)));
+        NoteContainsPhrasesPredicate secondPredicate =
+                new NoteContainsPhrasesPredicate(List.of(new NotePhrase("first", true)));
+
+        FindNoteCommand findFirstCommand = new FindNoteCommand(firstPredicate);
+        FindNoteCommand findSecondCommand = new FindNoteCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindNoteCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different phrases -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingNote_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        NoteContainsPhrasesPredicate predicate =
+                new NoteContainsPhrasesPredicate(List.of(new NotePhrase("likes beer", false)));
+        FindNoteCommand command = new FindNoteCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phrasesAndPrefixes_matchingPersonsFoundAndHighlighted() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        List<NotePhrase> phrases = List.of(new NotePhrase("likes aard", true), new NotePhrase("BEER", false));
+        NoteContainsPhrasesPredicate predicate = new NoteContainsPhrasesPredicate(phrases);
+        FindNoteCommand command = new FindNoteCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+        assertEquals(phrases, model.getNoteHighlightPhrases());
+
+        // a later filter clears the highlight
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Collections.emptyList(), model.getNoteHighlightPhrases());
+    }
+
+    @Test
+    public void execute_afterNoteCommand_editedNoteFound() throws Exception {
+        new NoteCommand(INDEX_FIRST_PERSON, new Note("Allergic to peanuts")).execute(model);
+        NoteContainsPhrasesPredicate predicate =
+                new NoteContainsPhrasesPredicate(List.of(new NotePhrase("peanut", true)));
+
+        new FindNoteCommand(predicate).execute(model);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals("Allergic to peanuts", model.getFilteredPersonList().get(0).getNote().value);
+
+        new FindNoteCommand(new NoteContainsPhrasesPredicate(List.of(new NotePhrase("aardvarks", false))))
+                .execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NoteContainsPhrasesPredicate predicate =
+                new NoteContainsPhrasesPredicate(List.of(new NotePhrase("keyword", false)));
+        FindNoteCommand findNoteCommand = new FindNoteCommand(predicate);
+        String expected = FindNoteCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findNoteCommand.toString());
+    }
+}
@@ -18,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate.MatchMode;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindTagCommand}.
@@ -83,6 +84,17 @@ public class FindTagCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_exactKeyword_onlyEqualTagsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        TagContainsKeywordsPredicate predicate =
+                new TagContainsKeywordsPredicate(Arrays.asList("Student", "coll"), MatchMode.EXACT);
+        FindTagCommand command = new FindTagCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("keyword"));
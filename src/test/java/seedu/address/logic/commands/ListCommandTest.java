@@ -1,16 +1,27 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.GEORGE_DUPLICATE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +47,34 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_class_showsPersonsInClass() {
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Collections.singletonList(Class.of("Nursery")));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new ListCommand(predicate), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(GEORGE, GEORGE_DUPLICATE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Collections.singletonList(Class.of("K1A")));
+        ListCommand listClassCommand = new ListCommand(predicate);
+
+        // same values -> returns true
+        assertTrue(new ListCommand().equals(new ListCommand()));
+        assertTrue(listClassCommand.equals(new ListCommand(predicate)));
+
+        // different types -> returns false
+        assertFalse(listClassCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listClassCommand.equals(null));
+
+        // different classes -> returns false
+        assertFalse(listClassCommand.equals(new ListCommand()));
+        assertFalse(listClassCommand.equals(new ListCommand(
+                new ClassMatchesPredicate(Collections.singletonList(Class.of("K1B"))))));
+    }
 }
@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,17 +20,26 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindClassCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindNameCommand;
+import seedu.address.logic.commands.FindNoteCommand;
 import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NoteContainsPhrasesPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AndClause;
+import seedu.address.model.search.NotClause;
+import seedu.address.model.search.NotePhrase;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -110,6 +120,37 @@ public class AddressBookParserTest {
         assertEquals(new FindTagCommand(new TagContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_find() throws Exception {
+        FindCommand command = (FindCommand) parser.parseCommand(FindCommand.COMMAND_WORD + " t/stu AND NOT n/alice");
+        assertEquals(new FindCommand(new AndClause(List.of(new TagContainsKeywordsPredicate(List.of("stu")),
+                new NotClause(new NameContainsKeywordsPredicate(List.of("alice")))))), command);
+    }
+
+    @Test
+    public void parseCommand_findClass() throws Exception {
+        FindClassCommand command = (FindClassCommand) parser.parseCommand(FindClassCommand.COMMAND_WORD + " k1a K2B");
+        assertEquals(new FindClassCommand(new ClassMatchesPredicate(Arrays.asList(Class.of("K1A"), Class.of("K2B")))),
+                command);
+    }
+
+    @Test
+    public void parseCommand_findNote() throws Exception {
+        FindNoteCommand command = (FindNoteCommand) parser.parseCommand(
+                FindNoteCommand.COMMAND_WORD + " \"peanut butter\" aller*");
+        assertEquals(new FindNoteCommand(new NoteContainsPhrasesPredicate(
+                List.of(new NotePhrase("peanut butter", false), new NotePhrase("aller", true)))), command);
+    }
+
+    @Test
+    public void parseLiveNameKeywords() {
+        assertEquals(List.of("al", "Bo"), parser.parseLiveNameKeywords("  find-n al   Bo "));
+        assertEquals(Collections.emptyList(), parser.parseLiveNameKeywords(FindNameCommand.COMMAND_WORD + " "));
+        assertEquals(Collections.emptyList(), parser.parseLiveNameKeywords("find-nal"));
+        assertEquals(Collections.emptyList(), parser.parseLiveNameKeywords("find-t al"));
+        assertEquals(Collections.emptyList(), parser.parseLiveNameKeywords(""));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -120,6 +161,8 @@ public class AddressBookParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(new ClassMatchesPredicate(Arrays.asList(Class.of("K1A")))),
+                parser.parseCommand(ListCommand.COMMAND_WORD + " c/K1A"));
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,39 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognized() {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = "preamble -tag tag value -t dashT value -tagged -ta";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTag, "tag value", "ged");
+        // falls back to the shorter prefix when the longer one does not match
+        assertArgumentPresent(argMultimap, dashT, "dashT value", "a");
+    }
+
+    @Test
+    public void tokenizeArguments_reusedTokenizer_valuesNotShared() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArguments("first p/ one -t two");
+        assertPreamblePresent(argMultimap, "first");
+        assertArgumentPresent(argMultimap, pSlash, "one");
+        assertArgumentPresent(argMultimap, dashT, "two");
+
+        argMultimap = tokenizer.tokenizeArguments("second ^Q three p/");
+        assertPreamblePresent(argMultimap, "second");
+        assertArgumentPresent(argMultimap, hatQ, "three");
+        assertArgumentPresent(argMultimap, pSlash, "");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void constructor_invalidPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(pSlash, new Prefix("")));
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("a b/")));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
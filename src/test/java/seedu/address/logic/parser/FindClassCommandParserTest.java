@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindClassCommand;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
+
+public class FindClassCommandParserTest {
+
+    private FindClassCommandParser parser = new FindClassCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindClassCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidClass_throwsParseException() {
+        assertParseFailure(parser, "K1A K3A", Class.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindClassCommand() {
+        // no leading and trailing whitespaces
+        FindClassCommand expectedFindClassCommand =
+                new FindClassCommand(new ClassMatchesPredicate(Arrays.asList(Class.of("K1A"), Class.of("NURSERY"))));
+        assertParseSuccess(parser, "K1A Nursery", expectedFindClassCommand);
+
+        // multiple whitespaces between classes, mixed case
+        assertParseSuccess(parser, " \n k1a \n \t nursery  \t", expectedFindClassCommand);
+    }
+
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NoteContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.AndClause;
+import seedu.address.model.search.NotClause;
+import seedu.address.model.search.OrClause;
+import seedu.address.model.search.SearchClause;
+
+public class FindCommandParserTest {
+
+    private static final SearchClause NAME_TAN = new NameContainsKeywordsPredicate(List.of("tan"));
+    private static final SearchClause NAME_LIM = new NameContainsKeywordsPredicate(List.of("lim"));
+    private static final SearchClause PHONE_9435 = new PhoneContainsKeywordsPredicate(List.of("9435"));
+    private static final SearchClause TAG_ALLERGY = new TagContainsKeywordsPredicate(List.of("allergy"));
+    private static final SearchClause CLASS_K2B = new ClassMatchesPredicate(List.of(Class.of("K2B")));
+    private static final SearchClause NOTE_PEANUT = new NoteContainsKeywordsPredicate(List.of("peanut"));
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_singleClause_returnsClause() {
+        assertParseSuccess(parser, " n/tan ", new FindCommand(NAME_TAN));
+        assertParseSuccess(parser, "p/9435", new FindCommand(PHONE_9435));
+        assertParseSuccess(parser, "t/allergy", new FindCommand(TAG_ALLERGY));
+        assertParseSuccess(parser, "c/k2b", new FindCommand(CLASS_K2B));
+        assertParseSuccess(parser, "desc/peanut", new FindCommand(NOTE_PEANUT));
+    }
+
+    @Test
+    public void parse_andClauses_returnsAndClause() {
+        FindCommand expectedCommand = new FindCommand(new AndClause(List.of(CLASS_K2B, TAG_ALLERGY, NAME_TAN)));
+        assertParseSuccess(parser, "c/K2B AND t/allergy AND n/tan", expectedCommand);
+
+        // AND is implied between clauses, operators ignore case
+        assertParseSuccess(parser, "c/K2B t/allergy and n/tan", expectedCommand);
+    }
+
+    @Test
+    public void parse_operatorPrecedence_notBeforeAndBeforeOr() {
+        assertParseSuccess(parser, "n/tan OR c/K2B AND NOT t/allergy", new FindCommand(new OrClause(
+                List.of(NAME_TAN, new AndClause(List.of(CLASS_K2B, new NotClause(TAG_ALLERGY)))))));
+        assertParseSuccess(parser, "NOT NOT n/tan", new FindCommand(new NotClause(new NotClause(NAME_TAN))));
+    }
+
+    @Test
+    public void parse_parentheses_groupClauses() {
+        assertParseSuccess(parser, "(n/tan OR n/lim) AND NOT (desc/peanut OR p/9435)", new FindCommand(
+                new AndClause(List.of(new OrClause(List.of(NAME_TAN, NAME_LIM)),
+                        new NotClause(new OrClause(List.of(NOTE_PEANUT, PHONE_9435)))))));
+
+        // parentheses separated by spaces, nested parentheses
+        assertParseSuccess(parser, "( ((n/tan)) OR n/lim )",
+                new FindCommand(new OrClause(List.of(NAME_TAN, NAME_LIM))));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        // empty query
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+
+        // unknown term
+        assertParseFailure(parser, "tan", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "e/tan@example.com", MESSAGE_INVALID_FORMAT);
+
+        // missing value
+        assertParseFailure(parser, "n/ AND t/allergy", MESSAGE_INVALID_FORMAT);
+
+        // dangling operators
+        assertParseFailure(parser, "n/tan OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "AND n/tan", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/tan AND NOT", MESSAGE_INVALID_FORMAT);
+
+        // unbalanced parentheses
+        assertParseFailure(parser, "(n/tan OR n/lim", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/tan OR n/lim)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "()", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidClass_throwsParseException() {
+        assertParseFailure(parser, "n/tan AND c/K3A", Class.MESSAGE_CONSTRAINTS);
+    }
+}
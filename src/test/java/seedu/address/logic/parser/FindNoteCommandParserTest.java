@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindNoteCommand;
+import seedu.address.model.person.NoteContainsPhrasesPredicate;
+import seedu.address.model.search.NotePhrase;
+
+public class FindNoteCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE);
+
+    private FindNoteCommandParser parser = new FindNoteCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPhrases_throwsParseException() {
+        // unclosed quote
+        assertParseFailure(parser, "\"peanut butter", MESSAGE_INVALID_FORMAT);
+
+        // no letters or digits
+        assertParseFailure(parser, "peanut ...", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "\" \"", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "*", MESSAGE_INVALID_FORMAT);
+
+        // prefix marker not at the end of a word
+        assertParseFailure(parser, "pea*nut", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "\"peanut butter\"jam", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindNoteCommand() {
+        // words
+        assertParseSuccess(parser, " \n peanuts \t beer ", new FindNoteCommand(new NoteContainsPhrasesPredicate(
+                List.of(new NotePhrase("peanuts", false), new NotePhrase("beer", false)))));
+
+        // phrases and prefixes
+        FindNoteCommand expectedFindNoteCommand = new FindNoteCommand(new NoteContainsPhrasesPredicate(
+                List.of(new NotePhrase("peanut butter", false), new NotePhrase("aller", true),
+                        new NotePhrase("can't ta", true))));
+        assertParseSuccess(parser, "\"peanut butter\" aller* \"can't ta\"*", expectedFindNoteCommand);
+
+        // a word with punctuation is a phrase
+        assertParseSuccess(parser, "can't", new FindNoteCommand(new NoteContainsPhrasesPredicate(
+                List.of(new NotePhrase("can t", false)))));
+    }
+}
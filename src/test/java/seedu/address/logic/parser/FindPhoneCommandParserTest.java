@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 
 public class FindPhoneCommandParserTest {
 
@@ -32,5 +33,15 @@ public class FindPhoneCommandParserTest {
         assertParseSuccess(parser, " \n 35 \n \t 8765  \t", expectedFindPhoneCommand);
     }
 
+    @Test
+    public void parse_prefixMatchFlag_returnsPrefixFindPhoneCommand() {
+        FindPhoneCommand expectedFindPhoneCommand = new FindPhoneCommand(
+                new PhoneContainsKeywordsPredicate(Arrays.asList("35", "8765"), MatchMode.PREFIX));
+        assertParseSuccess(parser, FindPhoneCommand.PREFIX_MATCH_FLAG + " 35 8765", expectedFindPhoneCommand);
+
+        assertParseFailure(parser, FindPhoneCommand.PREFIX_MATCH_FLAG,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+    }
+
 }
 
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate.MatchMode;
 
 public class FindTagCommandParserTest {
 
@@ -32,4 +33,17 @@ public class FindTagCommandParserTest {
         assertParseSuccess(parser, " \n student \n \t coll  \t", expectedFindTagCommand);
     }
 
+    @Test
+    public void parse_exactMatchFlag_returnsExactFindTagCommand() {
+        FindTagCommand expectedFindTagCommand = new FindTagCommand(
+                new TagContainsKeywordsPredicate(Arrays.asList("student", "coll"), MatchMode.EXACT));
+        assertParseSuccess(parser, FindTagCommand.EXACT_MATCH_FLAG + " student coll", expectedFindTagCommand);
+    }
+
+    @Test
+    public void parse_exactMatchFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " " + FindTagCommand.EXACT_MATCH_FLAG + " ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -10,16 +10,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.exceptions.ReadOnlyAddressBookException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SimilarNameQuery;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -142,6 +152,65 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void readOnly_modifyingOperations_throwReadOnlyAddressBookException() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ModelManager readOnlyModel = new ModelManager(addressBook, new UserPrefs(), true);
+        assertTrue(readOnlyModel.isReadOnly());
+        assertTrue(readOnlyModel.hasPerson(ALICE));
+        assertFalse(readOnlyModel.hasPerson(BENSON));
+
+        assertThrows(ReadOnlyAddressBookException.class, () -> readOnlyModel.addPerson(BENSON));
+        assertThrows(ReadOnlyAddressBookException.class, () -> readOnlyModel.deletePerson(ALICE));
+        assertThrows(ReadOnlyAddressBookException.class, () -> readOnlyModel.setPerson(ALICE, BENSON));
+        assertThrows(ReadOnlyAddressBookException.class, () -> readOnlyModel.setAddressBook(new AddressBook()));
+        assertEquals(addressBook, readOnlyModel.getAddressBook());
+    }
+
+    @Test
+    public void updateFilteredPersonListBySearch_listChanges_resultsFollowChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonListBySearch(new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListBySearch(new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersonsWithSimilarName_onlyFilteredPersonsFound() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(BENSON), modelManager.findPersonsWithSimilarName("Bensn Meir", 10));
+
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+        assertEquals(Collections.emptyList(), modelManager.findPersonsWithSimilarName("Bensn Meir", 10));
+    }
+
+    @Test
+    public void readOnly_searches_answeredWithoutIndex() {
+        ModelManager readOnlyModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), true);
+
+        readOnlyModel.updateFilteredPersonListBySearch(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), readOnlyModel.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, DANIEL), readOnlyModel.findPersonsWithSimilarName("Meir", 10));
+
+        readOnlyModel.updateFilteredPersonListBySearch(new SimilarNameQuery("Bensn Meir", 1));
+        assertEquals(Arrays.asList(BENSON), readOnlyModel.getFilteredPersonList());
+
+        Predicate<Person> nameKeywordsFilter = readOnlyModel.getNameKeywordsFilter(List.of("kur"));
+        assertTrue(nameKeywordsFilter.test(CARL));
+        assertFalse(nameKeywordsFilter.test(ALICE));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
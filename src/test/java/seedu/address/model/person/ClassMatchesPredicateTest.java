@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ClassMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        List<Class> firstPredicateClassList = Collections.singletonList(Class.of("K1A"));
+        List<Class> secondPredicateClassList = Arrays.asList(Class.of("K1A"), Class.of("K2B"));
+
+        ClassMatchesPredicate firstPredicate = new ClassMatchesPredicate(firstPredicateClassList);
+        ClassMatchesPredicate secondPredicate = new ClassMatchesPredicate(secondPredicateClassList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        ClassMatchesPredicate firstPredicateCopy = new ClassMatchesPredicate(firstPredicateClassList);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different classes -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personInAnyClass_returnsTrue() {
+        // One class
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Collections.singletonList(Class.of("K1A")));
+        assertTrue(predicate.test(new PersonBuilder().withClass("K1A").build()));
+
+        // Multiple classes
+        predicate = new ClassMatchesPredicate(Arrays.asList(Class.of("K1A"), Class.of("Nursery")));
+        assertTrue(predicate.test(new PersonBuilder().withClass("Nursery").build()));
+
+        // Mixed-case class
+        predicate = new ClassMatchesPredicate(Collections.singletonList(Class.of("k2b")));
+        assertTrue(predicate.test(new PersonBuilder().withClass("K2B").build()));
+    }
+
+    @Test
+    public void test_personNotInClasses_returnsFalse() {
+        // Zero classes
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withClass("K1A").build()));
+
+        // Non-matching class
+        predicate = new ClassMatchesPredicate(Arrays.asList(Class.of("K1B"), Class.of("K2A")));
+        assertFalse(predicate.test(new PersonBuilder().withClass("K1A").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Class> classes = List.of(Class.of("K1A"), Class.of("K2C"));
+        ClassMatchesPredicate predicate = new ClassMatchesPredicate(classes);
+
+        String expected = ClassMatchesPredicate.class.getCanonicalName() + "{classes=" + classes + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -60,6 +62,8 @@ public class ClassTest {
         assertFalse(Class.isValidClass("Grade1")); // invalid format
         assertFalse(Class.isValidClass("Reception")); // removed class type
         assertFalse(Class.isValidClass("Foundation")); // removed class type
+        assertFalse(Class.isValidClass("Pre-\u212A")); // Kelvin sign, which only equals K when ignoring Unicode case
+        assertFalse(Class.isValidClass("Nur\u017Fery")); // long s, which only equals s when ignoring Unicode case
 
         // valid kindergarten classes
         assertTrue(Class.isValidClass("Nursery"));
@@ -76,6 +80,7 @@ public class ClassTest {
         assertTrue(Class.isValidClass("PRE-K"));
         assertTrue(Class.isValidClass("k1a"));
         assertTrue(Class.isValidClass("K2c"));
+        assertTrue(Class.isValidClass(" k1B\t")); // surrounding whitespace
     }
 
     @Test
@@ -98,6 +103,21 @@ public class ClassTest {
         assertFalse(studentClass.equals(new Class("K2B")));
     }
 
+    @Test
+    public void of_equalClasses_sameInstance() {
+        Class studentClass = Class.of("K1A");
+        assertSame(studentClass, Class.of("K1A"));
+        assertSame(studentClass, Class.of(" k1a "));
+        assertEquals(new Class("K1A"), studentClass);
+        assertNotSame(studentClass, Class.of("K1B"));
+    }
+
+    @Test
+    public void of_invalidClass_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Class.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Class.of("K3A"));
+    }
+
     @Test
     public void hashCode_sameClass_sameHashCode() {
         Class class1 = new Class("K1A");
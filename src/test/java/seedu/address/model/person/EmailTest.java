@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -96,6 +98,21 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("STUDENT@E.NTU.EDU.SG"));
     }
 
+    @Test
+    public void isValidEmail_randomStrings_agreesWithValidationRegex() {
+        Random random = new Random(42);
+        String alphabet = "aZ9+_.-@é ";
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder email = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                email.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String test = email.toString();
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@example.com");
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -33,6 +35,10 @@ public class NameTest {
         // Mixed spacing issues should be handled
         name = new Name("  Peter   Paul   Mary  ");
         assertEquals("Peter Paul Mary", name.fullName);
+
+        // Other whitespace should be replaced by a single space
+        name = new Name("Peter\tPaul \n Mary");
+        assertEquals("Peter Paul Mary", name.fullName);
     }
 
     @Test
@@ -86,6 +92,22 @@ public class NameTest {
         assertTrue(Name.isValidName("Anna-Maria José-Carlos")); // Spanish-style name
     }
 
+    @Test
+    public void isValidName_randomStrings_agreesWithValidationRegex() {
+        Random random = new Random(42);
+        String[] alphabet = {"a", "é", " ", "-", "'", "\t", "\n", "1", "_", " ", "\uD835\uDC9C", "\uD835"};
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                name.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String test = name.toString();
+            boolean expected = !test.trim().isEmpty() && test.matches(Name.VALIDATION_REGEX);
+            assertEquals(expected, Name.isValidName(test), test);
+        }
+    }
+
     @Test
     public void getNormalizedName_caseInsensitive_success() {
         Name name1 = new Name("John Doe");
@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class NoteContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NoteContainsKeywordsPredicate firstPredicate = new NoteContainsKeywordsPredicate(firstPredicateKeywordList);
+        NoteContainsKeywordsPredicate secondPredicate = new NoteContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NoteContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_noteContainsKeywords_returnsTrue() {
+        // Whole word
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(List.of("peanuts"));
+        assertTrue(predicate.test(new PersonBuilder().withNote("Allergic to peanuts").build()));
+
+        // Part of a word, mixed case
+        predicate = new NoteContainsKeywordsPredicate(List.of("ALLERG"));
+        assertTrue(predicate.test(new PersonBuilder().withNote("Allergic to peanuts").build()));
+
+        // Only one matching keyword
+        predicate = new NoteContainsKeywordsPredicate(List.of("milk", "peanut"));
+        assertTrue(predicate.test(new PersonBuilder().withNote("Allergic to peanuts").build()));
+    }
+
+    @Test
+    public void test_noteDoesNotContainKeywords_returnsFalse() {
+        // Zero keywords
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withNote("Allergic to peanuts").build()));
+
+        // Blank keyword
+        predicate = new NoteContainsKeywordsPredicate(List.of(" "));
+        assertFalse(predicate.test(new PersonBuilder().withNote("Allergic to peanuts").build()));
+
+        // Non-matching keyword
+        predicate = new NoteContainsKeywordsPredicate(List.of("milk"));
+        assertFalse(predicate.test(new PersonBuilder().withNote("Allergic to peanuts").build()));
+    }
+
+    @Test
+    public void evaluate_sameAsTest() {
+        PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+        assertEquals(Set.of(ALICE, BENSON), new NoteContainsKeywordsPredicate(List.of("likes", "BEER"))
+                .evaluate(index));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(keywords);
+
+        String expected = NoteContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.search.NotePhrase;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class NoteContainsPhrasesPredicateTest {
+
+    @Test
+    public void equals() {
+        List<NotePhrase> firstPredicatePhraseList = List.of(new NotePhrase("first", false));
+        List<NotePhrase> secondPredicatePhraseList =
+                List.of(new NotePhrase("first", false), new NotePhrase("second", true));
+
+        NoteContainsPhrasesPredicate firstPredicate = new NoteContainsPhrasesPredicate(firstPredicatePhraseList);
+        NoteContainsPhrasesPredicate secondPredicate = new NoteContainsPhrasesPredicate(secondPredicatePhraseList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NoteContainsPhrasesPredicate(firstPredicatePhraseList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different phrases -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_noteMatchesPhrases_returnsTrue() {
+        Person person = new PersonBuilder().withNote("Allergic to peanuts, and to peanut butter").build();
+
+        // whole word, mixed case
+        assertTrue(new NoteContainsPhrasesPredicate(List.of(new NotePhrase("PEANUTS", false))).test(person));
+
+        // phrase ending in a prefix
+        assertTrue(new NoteContainsPhrasesPredicate(List.of(new NotePhrase("to peanut b", true))).test(person));
+
+        // only one matching phrase
+        assertTrue(new NoteContainsPhrasesPredicate(
+                List.of(new NotePhrase("milk", false), new NotePhrase("allerg", true))).test(person));
+    }
+
+    @Test
+    public void test_noteDoesNotMatchPhrases_returnsFalse() {
+        Person person = new PersonBuilder().withNote("Allergic to peanuts").build();
+
+        // zero phrases
+        assertFalse(new NoteContainsPhrasesPredicate(Collections.emptyList()).test(person));
+
+        // part of a word without a prefix marker
+        assertFalse(new NoteContainsPhrasesPredicate(List.of(new NotePhrase("peanut", false))).test(person));
+
+        // words not next to each other
+        assertFalse(new NoteContainsPhrasesPredicate(List.of(new NotePhrase("allergic peanuts", false))).test(person));
+    }
+
+    @Test
+    public void evaluate_sameAsTest() {
+        PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+        NoteContainsPhrasesPredicate predicate = new NoteContainsPhrasesPredicate(
+                List.of(new NotePhrase("likes", false), new NotePhrase("take BE", true)));
+        assertEquals(Set.of(ALICE, BENSON), predicate.evaluate(index));
+        assertTrue(predicate.estimateMatches(index) >= 2);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<NotePhrase> phrases = List.of(new NotePhrase("keyword1", false), new NotePhrase("key word", true));
+        NoteContainsPhrasesPredicate predicate = new NoteContainsPhrasesPredicate(phrases);
+
+        String expected = NoteContainsPhrasesPredicate.class.getCanonicalName() + "{phrases=" + phrases + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -103,6 +103,18 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        // equal persons -> same hash code, also when computed again
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(aliceCopy.hashCode(), aliceCopy.hashCode());
+
+        // name differing only in case -> same hash code, as names are compared ignoring case
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertEquals(ALICE.hashCode(), upperCaseAlice.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.PhoneContainsKeywordsPredicate.MatchMode;
 import seedu.address.testutil.PersonBuilder;
 
 public class PhoneContainsKeywordsPredicateTest {
@@ -56,6 +57,10 @@ public class PhoneContainsKeywordsPredicateTest {
         predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("22222222", "95357710"));
         assertTrue(predicate.test(new PersonBuilder().withPhone("95357710").build()));
 
+        // Start of number in prefix mode
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("9435"), MatchMode.PREFIX);
+        assertTrue(predicate.test(new PersonBuilder().withPhone("94351253").build()));
+
     }
 
     @Test
@@ -68,6 +73,10 @@ public class PhoneContainsKeywordsPredicateTest {
         predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("95357710"));
         assertFalse(predicate.test(new PersonBuilder().withPhone("92222222").build()));
 
+        // Middle of number in prefix mode
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("3512"), MatchMode.PREFIX);
+        assertFalse(predicate.test(new PersonBuilder().withPhone("94351253").build()));
+
         // Wrong Keywords matching name, email instead of phone
         try {
             predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("Alice", "alice@email.com"));
@@ -85,7 +94,8 @@ public class PhoneContainsKeywordsPredicateTest {
         List<String> keywords = List.of("keyword1", "keyword2");
         PhoneContainsKeywordsPredicate predicate = new PhoneContainsKeywordsPredicate(keywords);
 
-        String expected = PhoneContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = PhoneContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", matchMode=" + MatchMode.SUBSTRING + "}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -37,6 +37,16 @@ public class PhoneTest {
         // Multiple spaces should be handled
         phone = new Phone("9876    5432");
         assertEquals("98765432", phone.value);
+
+        // Other whitespace should be removed
+        phone = new Phone("\t9876\n5432\r");
+        assertEquals("98765432", phone.value);
+    }
+
+    @Test
+    public void getNumber_sameDigitsAsValue() {
+        assertEquals(98765432, new Phone("98765432").getNumber());
+        assertEquals(80000001, new Phone("8000-0001").getNumber());
     }
 
     @Test
@@ -67,6 +77,8 @@ public class PhoneTest {
         assertFalse(Phone.isValidPhone("9011#234")); // hash symbol
         assertFalse(Phone.isValidPhone("9011*234")); // asterisk
         assertFalse(Phone.isValidPhone("9011+234")); // plus sign
+        assertFalse(Phone.isValidPhone("9011\u0664234")); // non-ASCII digit
+        assertFalse(Phone.isValidPhone("9876_5432")); // other separators
 
         // valid phone numbers - 8 digits starting with 8
         assertTrue(Phone.isValidPhone("81234567"));
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.TagContainsKeywordsPredicate.MatchMode;
 import seedu.address.testutil.PersonBuilder;
 
 public class TagContainsKeywordsPredicateTest {
@@ -37,6 +38,10 @@ public class TagContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different match mode -> returns false
+        assertFalse(firstPredicate.equals(new TagContainsKeywordsPredicate(firstPredicateKeywordList,
+                MatchMode.EXACT)));
     }
 
     @Test
@@ -53,6 +58,13 @@ public class TagContainsKeywordsPredicateTest {
         predicate = new TagContainsKeywordsPredicate(Arrays.asList("friend", "student"));
         assertTrue(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
 
+        // Prefix of a tag, mixed-case keywords
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("COLL"));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
+
+        // Exact match, mixed-case keywords
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("FRIEND"), MatchMode.EXACT);
+        assertTrue(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
     }
 
     @Test
@@ -65,6 +77,18 @@ public class TagContainsKeywordsPredicateTest {
         predicate = new TagContainsKeywordsPredicate(Arrays.asList("student"));
         assertFalse(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
 
+        // Keyword is inside, but not at the start of, a tag
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("league"));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
+
+        // Keyword only matches the formatting of the tag set
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("[friend"));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
+
+        // Prefix of a tag in exact mode
+        predicate = new TagContainsKeywordsPredicate(Arrays.asList("coll"), MatchMode.EXACT);
+        assertFalse(predicate.test(new PersonBuilder().withTags("friend", "colleague").build()));
+
         // Keywords match name, email and address, but does not match tag
         predicate = new TagContainsKeywordsPredicate(Arrays.asList("Alice", "alice@email.com"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("92345678")
@@ -74,9 +98,10 @@ public class TagContainsKeywordsPredicateTest {
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
-        PhoneContainsKeywordsPredicate predicate = new PhoneContainsKeywordsPredicate(keywords);
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(keywords);
 
-        String expected = PhoneContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = TagContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", matchMode=" + MatchMode.PREFIX + "}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -0,0 +1,118 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.GEORGE_DUPLICATE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NoteContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+public class AndClauseTest {
+
+    private static final SearchClause NAME_MEIER = new NameContainsKeywordsPredicate(List.of("meier"));
+    private static final SearchClause TAG_FRIENDS = new TagContainsKeywordsPredicate(List.of("friends"));
+    private static final SearchClause PHONE_948 = new PhoneContainsKeywordsPredicate(List.of("948"));
+    private static final SearchClause CLASS_K1A = new ClassMatchesPredicate(List.of(Class.of("K1A")));
+    private static final SearchClause CLASS_NURSERY = new ClassMatchesPredicate(List.of(Class.of("Nursery")));
+    private static final SearchClause NOTE_BEER = new NoteContainsKeywordsPredicate(List.of("BEER"));
+
+    private final PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+
+    @Test
+    public void evaluate_includedClauses_personsMatchingAllFound() {
+        // most selective clause first or last
+        assertEquals(Set.of(ALICE), new AndClause(List.of(CLASS_K1A, TAG_FRIENDS)).evaluate(index));
+        assertEquals(Set.of(ALICE), new AndClause(List.of(TAG_FRIENDS, CLASS_K1A)).evaluate(index));
+
+        assertEquals(Set.of(BENSON, DANIEL), new AndClause(List.of(TAG_FRIENDS, NAME_MEIER)).evaluate(index));
+        assertEquals(Set.of(BENSON), new AndClause(List.of(NAME_MEIER, NOTE_BEER, TAG_FRIENDS)).evaluate(index));
+        assertEquals(Collections.emptySet(), new AndClause(List.of(CLASS_NURSERY, TAG_FRIENDS)).evaluate(index));
+    }
+
+    @Test
+    public void evaluate_negatedClauses_matchingPersonsRemoved() {
+        assertEquals(Set.of(ALICE), new AndClause(List.of(TAG_FRIENDS, new NotClause(NAME_MEIER))).evaluate(index));
+        assertEquals(Set.of(ELLE, FIONA), new AndClause(List.of(PHONE_948, new NotClause(CLASS_NURSERY)))
+                .evaluate(index));
+
+        // only negated clauses
+        assertEquals(Set.of(CARL, ELLE, FIONA, GEORGE, GEORGE_DUPLICATE),
+                new AndClause(List.of(new NotClause(TAG_FRIENDS), new NotClause(CLASS_K1A))).evaluate(index));
+    }
+
+    @Test
+    public void evaluate_nestedClauses_sameAsTest() {
+        List<SearchClause> queries = List.of(
+                new AndClause(List.of(new OrClause(List.of(CLASS_K1A, CLASS_NURSERY)), new NotClause(PHONE_948))),
+                new OrClause(List.of(new AndClause(List.of(NAME_MEIER, TAG_FRIENDS)), NOTE_BEER, CLASS_NURSERY)),
+                new NotClause(new OrClause(List.of(TAG_FRIENDS, PHONE_948))),
+                new AndClause(List.of(new NotClause(new NotClause(NAME_MEIER)), TAG_FRIENDS)));
+
+        for (SearchClause query : queries) {
+            Set<Person> expected = getTypicalPersons().stream().filter(query).collect(Collectors.toSet());
+            assertEquals(expected, query.evaluate(index), query.toString());
+        }
+    }
+
+    @Test
+    public void evaluate_afterIndexChanges_reflectsChanges() {
+        AndClause query = new AndClause(List.of(TAG_FRIENDS, NAME_MEIER));
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), query.evaluate(index));
+    }
+
+    @Test
+    public void estimateMatches_smallestIncludedClause() {
+        assertEquals(1, new AndClause(List.of(TAG_FRIENDS, CLASS_K1A, NAME_MEIER)).estimateMatches(index));
+        assertEquals(index.size(), new AndClause(List.of(new NotClause(CLASS_K1A))).estimateMatches(index));
+    }
+
+    @Test
+    public void test() {
+        AndClause query = new AndClause(List.of(TAG_FRIENDS, new NotClause(NAME_MEIER)));
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(BENSON));
+        assertFalse(query.test(CARL));
+    }
+
+    @Test
+    public void equals() {
+        AndClause query = new AndClause(List.of(TAG_FRIENDS, CLASS_K1A));
+
+        // same values -> returns true
+        assertTrue(query.equals(new AndClause(List.of(TAG_FRIENDS, CLASS_K1A))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different types -> returns false
+        assertFalse(query.equals(new OrClause(List.of(TAG_FRIENDS, CLASS_K1A))));
+
+        // different clauses -> returns false
+        assertFalse(query.equals(new AndClause(List.of(TAG_FRIENDS, CLASS_NURSERY))));
+    }
+}
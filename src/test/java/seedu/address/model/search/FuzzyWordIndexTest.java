@@ -0,0 +1,80 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyWordIndexTest {
+
+    @Test
+    public void getDistance() {
+        assertEquals(0, FuzzyWordIndex.getDistance("meier", "meier"));
+        assertEquals(1, FuzzyWordIndex.getDistance("meier", "meyer")); // substitution
+        assertEquals(1, FuzzyWordIndex.getDistance("meir", "meier")); // insertion
+        assertEquals(1, FuzzyWordIndex.getDistance("meierr", "meier")); // deletion
+        assertEquals(2, FuzzyWordIndex.getDistance("nicholsa", "nicholas")); // transposition
+        assertEquals(5, FuzzyWordIndex.getDistance("", "meier"));
+        assertEquals(3, FuzzyWordIndex.getDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void collectWordsWithin_sameAsComparingEveryWord() {
+        FuzzyWordIndex index = new FuzzyWordIndex();
+        getTypicalPersons().forEach(index::add);
+        String[] words = {"alice", "pauline", "benson", "meier", "carl", "kurz", "daniel", "elle", "meyer",
+            "fiona", "kunz", "george", "best"};
+
+        for (String keyword : new String[] {"meir", "kunx", "benosn", "bets", "zzz", "elle"}) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String word : words) {
+                    int distance = FuzzyWordIndex.getDistance(keyword, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+
+                Map<String, Integer> result = new HashMap<>();
+                index.collectWordsWithin(keyword, maxDistance, result);
+                assertEquals(expected, result, keyword + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_wordNoLongerFound() {
+        FuzzyWordIndex index = new FuzzyWordIndex();
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        index.remove(BENSON);
+        Map<String, Integer> result = new HashMap<>();
+        index.collectWordsWithin("benson", 0, result);
+        assertEquals(Collections.emptyMap(), result);
+        assertEquals(Set.of(DANIEL), index.getPersonsWithWord("meier"));
+
+        // a removed word is found again once a person has it again
+        index.add(BENSON);
+        index.collectWordsWithin("bensen", 1, result);
+        assertEquals(Map.of("benson", 1), result);
+    }
+
+    @Test
+    public void add_repeatedWord_indexedOnce() {
+        FuzzyWordIndex index = new FuzzyWordIndex();
+        Person person = new PersonBuilder().withName("Ann Ann").build();
+        index.add(person);
+        assertEquals(Set.of(person), index.getPersonsWithWord("ann"));
+    }
+}
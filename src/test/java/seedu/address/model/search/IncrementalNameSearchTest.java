@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncrementalNameSearchTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+    private final IncrementalNameSearch search = new IncrementalNameSearch();
+
+    @Test
+    public void search_keywordTypedOneCharacterAtATime_sameAsIndex() {
+        String name = "meier";
+        for (int length = 1; length <= name.length(); length++) {
+            List<String> keywords = List.of(name.substring(0, length));
+            assertEquals(index.findByNameKeywords(keywords), search.search(keywords, index));
+        }
+        assertEquals(Set.of(BENSON, DANIEL), search.search(List.of("MEIER"), index));
+
+        // several keywords refined together
+        for (List<String> keywords : List.of(List.of("e", "a"), List.of("el", "ar"), List.of("ell", "carl"))) {
+            assertEquals(index.findByNameKeywords(keywords), search.search(keywords, index));
+        }
+    }
+
+    @Test
+    public void search_keywordsChanged_sameAsIndex() {
+        assertEquals(Set.of(CARL, ELLE, FIONA), search.search(List.of("kurz", "elle", "kunz"), index));
+
+        // keyword removed or shortened
+        assertEquals(Set.of(CARL, ELLE), search.search(List.of("kurz", "elle"), index));
+        assertEquals(Set.of(CARL, ELLE, FIONA), search.search(List.of("ku", "elle"), index));
+
+        // keyword replaced
+        assertEquals(Set.of(ALICE, ELLE), search.search(List.of("alice", "elle "), index));
+        assertEquals(Collections.emptySet(), search.search(List.of(" "), index));
+    }
+
+    @Test
+    public void search_indexChanged_newPersonFound() {
+        assertEquals(Set.of(ALICE), search.search(List.of("alic"), index));
+
+        Person alicia = new PersonBuilder().withName("Alicia Tan").withPhone("81234567").build();
+        index.add(alicia);
+        assertEquals(Set.of(alicia), search.search(List.of("alici"), index));
+    }
+}
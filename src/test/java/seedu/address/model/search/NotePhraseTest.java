@@ -0,0 +1,75 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NotePhraseTest {
+
+    @Test
+    public void constructor_noTerms_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new NotePhrase(null, false));
+        assertThrows(IllegalArgumentException.class, () -> new NotePhrase("", false));
+        assertThrows(IllegalArgumentException.class, () -> new NotePhrase(" - !", true));
+    }
+
+    @Test
+    public void getTerms_lowerCaseRunsOfLettersAndDigits() {
+        assertEquals(List.of("he", "can", "t", "take", "beer", "2x"), NotePhrase.getTerms("He can't take  BEER (2x)!"));
+        assertEquals(Collections.emptyList(), NotePhrase.getTerms("  ... "));
+        assertEquals(List.of("peanut", "butter"), new NotePhrase("Peanut-butter", false).getWords());
+    }
+
+    @Test
+    public void matches() {
+        List<String> terms = NotePhrase.getTerms("Allergic to peanut butter");
+
+        assertTrue(new NotePhrase("peanut", false).matches(terms));
+        assertTrue(new NotePhrase("PEANUT butter", false).matches(terms));
+        assertTrue(new NotePhrase("to pea", true).matches(terms));
+        assertTrue(new NotePhrase("butter", true).matches(terms));
+
+        assertFalse(new NotePhrase("pea", false).matches(terms));
+        assertFalse(new NotePhrase("butter peanut", false).matches(terms));
+        assertFalse(new NotePhrase("allerg to", true).matches(terms));
+        assertFalse(new NotePhrase("butter jam", true).matches(terms));
+    }
+
+    @Test
+    public void findMatchingSpans_mergedInOrder() {
+        String note = "Peanut butter, not peanuts.";
+        List<int[]> spans = NotePhrase.findMatchingSpans(note,
+                List.of(new NotePhrase("pea", true), new NotePhrase("peanut butter", false)));
+
+        assertEquals(2, spans.size());
+        assertArrayEquals(new int[] {0, 13}, spans.get(0));
+        assertArrayEquals(new int[] {19, 26}, spans.get(1));
+        assertEquals(Collections.emptyList(), NotePhrase.findMatchingSpans(note, Collections.emptyList()));
+    }
+
+    @Test
+    public void equals() {
+        NotePhrase phrase = new NotePhrase("peanut butter", false);
+
+        assertTrue(phrase.equals(phrase));
+        assertTrue(phrase.equals(new NotePhrase("Peanut, BUTTER", false)));
+
+        assertFalse(phrase.equals(null));
+        assertFalse(phrase.equals("peanut butter"));
+        assertFalse(phrase.equals(new NotePhrase("peanut butter", true)));
+        assertFalse(phrase.equals(new NotePhrase("peanut", false)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("\"peanut butter\"*", new NotePhrase("Peanut Butter", true).toString());
+        assertEquals("beer", new NotePhrase("beer", false).toString());
+    }
+}
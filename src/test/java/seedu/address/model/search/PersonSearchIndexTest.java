@@ -0,0 +1,278 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.GEORGE_DUPLICATE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+
+    @Test
+    public void findByNameKeywords_wholeWords_matchingPersonsFound() {
+        assertEquals(Set.of(CARL, ELLE, FIONA), index.findByNameKeywords(List.of("Kurz", "Elle", "Kunz")));
+    }
+
+    @Test
+    public void findByNameKeywords_partialWordsIgnoringCase_matchingPersonsFound() {
+        // prefix, infix and suffix of a word
+        assertEquals(Set.of(BENSON), index.findByNameKeywords(List.of("BEN")));
+        assertEquals(Set.of(DANIEL), index.findByNameKeywords(List.of("nie")));
+        assertEquals(Set.of(CARL, ELLE, FIONA), index.findByNameKeywords(List.of("urz", "lle", "unz")));
+    }
+
+    @Test
+    public void findByNameKeywords_noMatch_emptyResult() {
+        assertEquals(Collections.emptySet(), index.findByNameKeywords(List.of("Zed")));
+        assertEquals(Collections.emptySet(), index.findByNameKeywords(Collections.emptyList()));
+        // keywords do not match across the words of a name
+        assertEquals(Collections.emptySet(), index.findByNameKeywords(List.of("AlicePauline")));
+    }
+
+    @Test
+    public void findByTagNames_equalNamesIgnoringCase_matchingPersonsFound() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.findByTagNames(List.of("FRIENDS")));
+        assertEquals(Set.of(CARL, ELLE), index.findByTagNames(List.of("colleague", "student")));
+        assertEquals(Collections.emptySet(), index.findByTagNames(List.of("friend")));
+    }
+
+    @Test
+    public void findByTagPrefixes_prefixesIgnoringCase_matchingPersonsFound() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.findByTagPrefixes(List.of("fri")));
+        assertEquals(Set.of(BENSON, CARL), index.findByTagPrefixes(List.of("OWES", "coll")));
+        assertEquals(Collections.emptySet(), index.findByTagPrefixes(List.of("money")));
+    }
+
+    @Test
+    public void findByPhoneSubstrings_partialNumbers_matchingPersonsFound() {
+        // start, middle and end of a number
+        assertEquals(Set.of(ALICE), index.findByPhoneSubstrings(List.of("9435")));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByPhoneSubstrings(List.of("8765")));
+        assertEquals(Set.of(ALICE, CARL, DANIEL), index.findByPhoneSubstrings(List.of("253", "2563")));
+        assertEquals(Set.of(CARL), index.findByPhoneSubstrings(List.of("95352563")));
+        assertEquals(Collections.emptySet(), index.findByPhoneSubstrings(List.of("12345", "94a", "")));
+    }
+
+    @Test
+    public void findByPhonePrefixes_partialNumbers_onlyStartsOfNumbersMatched() {
+        assertEquals(Set.of(DANIEL), index.findByPhonePrefixes(List.of("8765")));
+        assertEquals(Set.of(ELLE, FIONA), index.findByPhonePrefixes(List.of("948222", "948242")));
+        assertEquals(Collections.emptySet(), index.findByPhonePrefixes(List.of("2563")));
+    }
+
+    @Test
+    public void findByClasses_classes_personsInAnyClassFound() {
+        assertEquals(Set.of(ALICE), index.findByClasses(List.of(Class.of("K1A"))));
+        assertEquals(Set.of(ELLE, GEORGE, GEORGE_DUPLICATE),
+                index.findByClasses(List.of(Class.of("K2B"), Class.of("Nursery"))));
+        assertEquals(Collections.emptySet(), index.findByClasses(List.of(Class.of("Pre-K"))));
+        assertEquals(Collections.emptySet(), index.findByClasses(Collections.emptyList()));
+    }
+
+    @Test
+    public void add_editedPersonClass_movedToNewClass() {
+        Person editedAlice = new PersonBuilder(ALICE).withClass("K2B").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertEquals(Collections.emptySet(), index.findByClasses(List.of(Class.of("K1A"))));
+        assertEquals(Set.of(editedAlice, ELLE), index.findByClasses(List.of(Class.of("K2B"))));
+    }
+
+    @Test
+    public void findBySimilarName_misspelledWords_closestPersonsFound() {
+        // transposed, missing and substituted letters
+        assertEquals(List.of(BENSON), index.findBySimilarName("Benosn", 10, unused -> true));
+        assertEquals(List.of(BENSON, DANIEL), index.findBySimilarName("meir", 10, unused -> true));
+        assertEquals(List.of(CARL), index.findBySimilarName("kurx", 10, unused -> true));
+
+        // too many edits for a short word
+        assertEquals(Collections.emptyList(), index.findBySimilarName("mayr", 10, unused -> true));
+        assertEquals(Collections.emptyList(), index.findBySimilarName("  ", 10, unused -> true));
+    }
+
+    @Test
+    public void findBySimilarName_rankedByCloseness() {
+        // containing words before misspelled words
+        assertEquals(List.of(FIONA, CARL), index.findBySimilarName("kunz", 10, unused -> true));
+
+        // more matching words first
+        assertEquals(List.of(ELLE, BENSON, DANIEL), index.findBySimilarName("Elle Meier", 10, unused -> true));
+
+        // equal names first, ignoring case and extra whitespace
+        Person aaliceBest = new PersonBuilder().withName("Aalice Pauline Best").withPhone("81234567").build();
+        index.add(aaliceBest);
+        assertEquals(List.of(ALICE, aaliceBest), index.findBySimilarName("alice  PAULINE", 10, unused -> true));
+        assertEquals(List.of(GEORGE, GEORGE_DUPLICATE, aaliceBest),
+                index.findBySimilarName("George Best", 10, unused -> true));
+    }
+
+    @Test
+    public void findBySimilarName_limitAndFilter_respected() {
+        assertEquals(List.of(ALICE, BENSON), index.findBySimilarName("e", 2, unused -> true));
+        assertEquals(List.of(DANIEL), index.findBySimilarName("meir", 10, person -> person != BENSON));
+        assertEquals(Collections.emptyList(), index.findBySimilarName("meier", 0, unused -> true));
+    }
+
+    @Test
+    public void findByNotePhrases_wordsPhrasesAndPrefixes_matchingPersonsFound() {
+        Person peanutAllergy = new PersonBuilder().withName("Nut Allergy").withPhone("81234567")
+                .withNote("Allergic to peanuts; no peanut butter, no beer-based sauces.").build();
+        index.add(peanutAllergy);
+
+        // whole words only, ignoring case and punctuation
+        assertEquals(Set.of(BENSON, peanutAllergy), index.findByNotePhrases(List.of(new NotePhrase("BEER", false))));
+        assertEquals(Collections.emptySet(), index.findByNotePhrases(List.of(new NotePhrase("aardvark", false))));
+
+        // consecutive words
+        assertEquals(Set.of(peanutAllergy),
+                index.findByNotePhrases(List.of(new NotePhrase("peanut butter", false))));
+        assertEquals(Set.of(peanutAllergy), index.findByNotePhrases(List.of(new NotePhrase("beer based", false))));
+        assertEquals(Collections.emptySet(),
+                index.findByNotePhrases(List.of(new NotePhrase("peanuts butter", false))));
+
+        // last word is a prefix
+        assertEquals(Set.of(ALICE), index.findByNotePhrases(List.of(new NotePhrase("aard", true))));
+        assertEquals(Set.of(peanutAllergy), index.findByNotePhrases(List.of(new NotePhrase("to pea", true))));
+        assertEquals(Collections.emptySet(), index.findByNotePhrases(List.of(new NotePhrase("to but", true))));
+
+        // any phrase
+        assertEquals(Set.of(ALICE, BENSON), index.findByNotePhrases(
+                List.of(new NotePhrase("likes", false), new NotePhrase("can t", false))));
+    }
+
+    @Test
+    public void add_editedPersonNote_foundByNewNoteOnly() {
+        Person editedAlice = new PersonBuilder(ALICE).withNote("Allergic to peanuts").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertEquals(Collections.emptySet(), index.findByNotePhrases(List.of(new NotePhrase("aardvarks", false))));
+        assertEquals(Set.of(editedAlice), index.findByNotePhrases(List.of(new NotePhrase("peanuts", false))));
+
+        index.remove(editedAlice);
+        assertEquals(Collections.emptySet(), index.findByNotePhrases(List.of(new NotePhrase("peanuts", false))));
+    }
+
+    @Test
+    public void estimates_atLeastNumberOfMatches() {
+        List<List<String>> keywordLists = List.of(List.of("meier"), List.of("e", "a"), List.of("FRI", "owesmoney"),
+                List.of("948", "253"), List.of("9"), List.of("zed"));
+        for (List<String> keywords : keywordLists) {
+            assertEstimate(index.estimateByNameKeywords(keywords), index.findByNameKeywords(keywords));
+            assertEstimate(index.estimateByTagNames(keywords), index.findByTagNames(keywords));
+            assertEstimate(index.estimateByTagPrefixes(keywords), index.findByTagPrefixes(keywords));
+            assertEstimate(index.estimateByPhoneSubstrings(keywords), index.findByPhoneSubstrings(keywords));
+            assertEstimate(index.estimateByPhonePrefixes(keywords), index.findByPhonePrefixes(keywords));
+        }
+        List<List<NotePhrase>> phraseLists = List.of(List.of(new NotePhrase("likes", false)),
+                List.of(new NotePhrase("a", true), new NotePhrase("b", true)), List.of(new NotePhrase("can t", true)),
+                List.of(new NotePhrase("zebra", false)));
+        for (List<NotePhrase> phrases : phraseLists) {
+            assertEstimate(index.estimateByNotePhrases(phrases), index.findByNotePhrases(phrases));
+        }
+
+        // exact where every match is counted once
+        assertEquals(2, index.estimateByNameKeywords(List.of("meier")));
+        assertEquals(3, index.estimateByTagNames(List.of("friends")));
+        assertEquals(2, index.estimateByPhoneSubstrings(List.of("8765")));
+        assertEquals(3, index.estimateByClasses(List.of(Class.of("K1A"), Class.of("Nursery"))));
+        assertEquals(0, index.estimateByPhonePrefixes(List.of("2563")));
+    }
+
+    @Test
+    public void getPersons_afterChanges_indexedPersons() {
+        assertEquals(Set.copyOf(getTypicalPersons()), index.getPersons());
+        index.remove(ALICE);
+        assertEquals(getTypicalPersons().size() - 1, index.size());
+        index.setPersons(List.of(BENSON));
+        assertEquals(Set.of(BENSON), index.getPersons());
+    }
+
+    @Test
+    public void scanBySimilarName_sameRankingAsIndex() {
+        for (String name : List.of("Bensn Meir", "alice", "KUNZ", "george best", "Elle Meyre", "Zed")) {
+            assertEquals(index.findBySimilarName(name, 3, unused -> true),
+                    PersonSearchIndex.scanBySimilarName(getTypicalPersons(), name, 3));
+        }
+    }
+
+    @Test
+    public void remove_personRemoved_noLongerFound() {
+        long version = index.getVersion();
+        index.remove(ALICE);
+        assertNotEquals(version, index.getVersion());
+        assertEquals(Collections.emptySet(), index.findByNameKeywords(List.of("alice")));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByTagNames(List.of("friends")));
+        assertEquals(Collections.emptySet(), index.findByPhoneSubstrings(List.of("4351253")));
+        assertEquals(Collections.emptySet(), index.findByClasses(List.of(Class.of("K1A"))));
+        assertEquals(0, index.estimateByPhoneSubstrings(List.of("4351253")));
+        assertEquals(Collections.emptyList(), index.findBySimilarName("alise", 10, unused -> true));
+    }
+
+    @Test
+    public void remove_personSharingPhoneDigits_otherPersonsStillFound() {
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.findByPhoneSubstrings(List.of("8765")));
+        assertEquals(1, index.estimateByPhoneSubstrings(List.of("8765")));
+
+        // a person added after a removal is found by the digits of its own number only
+        Person bensonNewPhone = new PersonBuilder(BENSON).withPhone("87651111").build();
+        index.add(bensonNewPhone);
+        assertEquals(Set.of(DANIEL, bensonNewPhone), index.findByPhonePrefixes(List.of("8765")));
+        assertEquals(Set.of(bensonNewPhone), index.findByPhoneSubstrings(List.of("1111")));
+        assertEquals(Collections.emptySet(), index.findByPhoneSubstrings(List.of("98765432")));
+    }
+
+    @Test
+    public void remove_personSharingWords_otherPersonStillFound() {
+        Person aliceMeier = new PersonBuilder().withName("Alice Meier").withPhone("81234567").build();
+        index.add(aliceMeier);
+        assertEquals(Set.of(ALICE, aliceMeier), index.findByNameKeywords(List.of("alice")));
+
+        index.remove(ALICE);
+        assertEquals(Set.of(aliceMeier), index.findByNameKeywords(List.of("alice")));
+        assertEquals(Set.of(BENSON, DANIEL, aliceMeier), index.findByNameKeywords(List.of("meier")));
+    }
+
+    @Test
+    public void add_nameWithRepeatedWord_personFound() {
+        Person annAnn = new PersonBuilder().withName("Ann Ann").withPhone("81234567").build();
+        index.add(annAnn);
+        assertEquals(Set.of(annAnn), index.findByNameKeywords(List.of("ann")));
+
+        index.remove(annAnn);
+        assertEquals(Collections.emptySet(), index.findByNameKeywords(List.of("ann")));
+    }
+
+    @Test
+    public void setPersons_replacesIndexedPersons() {
+        index.setPersons(List.of(ALICE));
+        assertEquals(Collections.emptySet(), index.findByNameKeywords(List.of("benson")));
+        assertEquals(Set.of(ALICE), index.findByNameKeywords(List.of("alice")));
+        assertEquals(Collections.emptySet(), index.findByTagPrefixes(List.of("owes")));
+        assertEquals(Collections.emptySet(), index.findByClasses(List.of(Class.of("K1B"))));
+        assertEquals(Collections.emptySet(), index.findByNotePhrases(List.of(new NotePhrase("beer", false))));
+    }
+
+    private void assertEstimate(int estimate, Set<Person> matches) {
+        assertTrue(estimate >= matches.size() && estimate <= index.size(), estimate + " for " + matches);
+    }
+}
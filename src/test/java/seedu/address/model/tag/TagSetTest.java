@@ -0,0 +1,69 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUE = new Tag("colleague");
+    private static final Tag STUDENT = new Tag("student");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Collections.singletonList(null)));
+    }
+
+    @Test
+    public void of_duplicateTags_distinctTagsInNameOrder() {
+        TagSet tags = TagSet.of(List.of(STUDENT, FRIENDS, new Tag("student"), COLLEAGUE));
+        assertEquals(List.of(COLLEAGUE, FRIENDS, STUDENT), new ArrayList<>(tags));
+        assertEquals(3, tags.size());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tags = TagSet.of(Set.of(FRIENDS));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Set.of(FRIENDS, STUDENT));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(COLLEAGUE));
+        assertFalse(tags.contains("friends"));
+        assertFalse(TagSet.of(Set.of()).contains(FRIENDS));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameTagsAsHashSet_equal() {
+        Set<Tag> hashSet = new HashSet<>(List.of(FRIENDS, STUDENT));
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertFalse(tags.equals(TagSet.of(Set.of(FRIENDS))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(STUDENT));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(COLLEAGUE));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
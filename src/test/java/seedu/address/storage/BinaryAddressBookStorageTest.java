@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("addressbook.BIN")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("bin", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        Files.writeString(filePath, "{ \"persons\": [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+        BinaryAddressBookStorage.writeVarInt(out, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(saved, saved.length - 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_corruptedLength_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+
+        // a dictionary longer than the file
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = writeHeader(bytes);
+        BinaryAddressBookStorage.writeVarInt(out, Integer.MAX_VALUE);
+        assertCorruptedFileNotLoaded(filePath, bytes.toByteArray());
+
+        // more persons than bytes left
+        bytes = new ByteArrayOutputStream();
+        out = writeHeader(bytes);
+        BinaryAddressBookStorage.writeVarInt(out, 0);
+        BinaryAddressBookStorage.writeVarInt(out, Integer.MAX_VALUE);
+        assertCorruptedFileNotLoaded(filePath, bytes.toByteArray());
+
+        // a person record with more tags than bytes left
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (String value : new String[] {"Amy Bee", "81111111", "amy@example.com"}) {
+            writeString(recordOut, value);
+        }
+        BinaryAddressBookStorage.writeVarInt(recordOut, 1); // one address fragment
+        BinaryAddressBookStorage.writeVarInt(recordOut, 0);
+        BinaryAddressBookStorage.writeVarInt(recordOut, 1); // class
+        writeString(recordOut, ""); // note
+        BinaryAddressBookStorage.writeVarInt(recordOut, Integer.MAX_VALUE); // tags
+
+        bytes = new ByteArrayOutputStream();
+        out = writeHeader(bytes);
+        BinaryAddressBookStorage.writeVarInt(out, 2);
+        writeString(out, "123 Main St");
+        writeString(out, "K1A");
+        BinaryAddressBookStorage.writeVarInt(out, 1);
+        BinaryAddressBookStorage.writeVarInt(out, record.size());
+        record.writeTo(out);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        // a mapped address book leaves the invalid record out
+        ReadOnlyAddressBook mapped = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        assertTrue(mapped.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanCompactJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("AddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("AddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static DataOutputStream writeHeader(ByteArrayOutputStream bytes) throws IOException {
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+        BinaryAddressBookStorage.writeVarInt(out, BinaryAddressBookStorage.FORMAT_VERSION);
+        return out;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        BinaryAddressBookStorage.writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Asserts that {@code content} fails to load, whether it is read as a stream or mapped.
+     */
+    private static void assertCorruptedFileNotLoaded(Path filePath, byte[] content) throws IOException {
+        Files.write(filePath, content);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+}
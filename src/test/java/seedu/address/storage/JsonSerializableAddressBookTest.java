@@ -3,14 +3,21 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -18,7 +25,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path INVALID_PERSONS_FILE = TEST_DATA_FOLDER.resolve("invalidPersonsAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final String EXPECTED_INVALID_PERSONS_MESSAGE =
+            String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_FORMAT, 0, Email.MESSAGE_CONSTRAINTS)
+            + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_FORMAT, 2,
+                    Class.MESSAGE_CONSTRAINTS);
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -36,6 +48,13 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_multipleInvalidPersons_reportsEveryInvalidPersonInOrder() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, EXPECTED_INVALID_PERSONS_MESSAGE, dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
@@ -44,4 +63,39 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readModelType(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_multipleInvalidPersons_reportsEveryInvalidPersonInOrder() {
+        assertThrows(IllegalValueException.class, EXPECTED_INVALID_PERSONS_MESSAGE, () ->
+                readModelType(INVALID_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_notAnObject_throwsIoException(@TempDir Path testFolder) throws Exception {
+        Path file = testFolder.resolve("persons.json");
+        Files.writeString(file, "[ ]");
+        assertThrows(IOException.class, () -> readModelType(file));
+    }
+
+    private static AddressBook readModelType(Path file) throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class MappedAddressBookTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_typicalAddressBook_personsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        MappedAddressBook addressBook = MappedAddressBook.open(filePath);
+        assertEquals(getTypicalPersons(), addressBook.getPersonList());
+        // cached or created again, the same person is returned
+        assertEquals(BENSON, addressBook.getPersonList().get(1));
+    }
+
+    @Test
+    public void readAddressBook_mappedStorage_returnsMappedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        assertTrue(addressBook instanceof MappedAddressBook);
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void open_invalidPersonRecord_recordLeftOut() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        replaceBytes(filePath, ALICE.getPhone().value, "9435125x");
+
+        MappedAddressBook addressBook = MappedAddressBook.open(filePath);
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.remove(ALICE);
+        assertEquals(expectedPersons, addressBook.getPersonList());
+        assertEquals(BENSON, addressBook.getPersonList().get(0));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.bin");
+        Files.writeString(filePath, "{ \"persons\": [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    private static void replaceBytes(Path filePath, String target, String replacement) throws IOException {
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        Files.write(filePath, content.replace(target, replacement).getBytes(StandardCharsets.ISO_8859_1));
+    }
+}